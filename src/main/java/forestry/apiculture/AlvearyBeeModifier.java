@@ -13,7 +13,7 @@ package forestry.apiculture;
 import forestry.api.apiculture.DefaultBeeModifier;
 import forestry.api.apiculture.IBeeGenome;
 
-public class AlvearyBeeModifier extends DefaultBeeModifier {
+public class AlvearyBeeModifier extends DefaultBeeModifier implements IStatelessBeeModifier {
 	@Override
 	public float getTerritoryModifier(IBeeGenome genome, float currentModifier) {
 		return 2.0f;
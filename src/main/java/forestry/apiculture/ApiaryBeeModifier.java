@@ -13,7 +13,7 @@ package forestry.apiculture;
 import forestry.api.apiculture.DefaultBeeModifier;
 import forestry.api.apiculture.IBeeGenome;
 
-public class ApiaryBeeModifier extends DefaultBeeModifier {
+public class ApiaryBeeModifier extends DefaultBeeModifier implements IStatelessBeeModifier {
 	@Override
 	public float getProductionModifier(IBeeGenome genome, float currentModifier) {
 		return 0.1f;
@@ -11,109 +11,242 @@
 package forestry.apiculture;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
 
 import forestry.api.apiculture.IBeeGenome;
 import forestry.api.apiculture.IBeeHousing;
 import forestry.api.apiculture.IBeeModifier;
+import forestry.api.apiculture.IBeekeepingLogic;
 
+/**
+ * Combines the bee modifiers of a bee housing.
+ * <p>
+ * The modifiers are compiled into an array together with their flags, so the modifiers of the housing are not collected
+ * again for every query. They are compiled again when a {@link IVersionedBeeHousing} reports a new version, other
+ * housings and housings with modifiers that are not stateless compile them again once per world tick. If all modifiers
+ * are stateless, the last result of every modifier chain is kept for the genomes it was calculated for, so the chains
+ * only run again when the modifiers or the queen change. Chains with other modifiers, which may change their values at
+ * any time, run on every query.
+ * <p>
+ * Use {@link #getModifier(IBeeHousing)} to get the modifier that is shared by the beekeeping logic of the housing.
+ */
 public class BeeHousingModifier implements IBeeModifier {
+	private static final IBeeModifier[] NO_MODIFIERS = new IBeeModifier[0];
+
 	private final IBeeHousing beeHousing;
 
+	private IBeeModifier[] modifiers = NO_MODIFIERS;
+	private boolean compiled;
+	private int compiledVersion;
+	private long compiledTime;
+
+	private boolean sealed;
+	private boolean selfLighted;
+	private boolean sunlightSimulated;
+	private boolean hellish;
+	private boolean stateless;
+
+	private final LastResult territory = new LastResult();
+	private final LastResult mutation = new LastResult();
+	private final LastResult lifespan = new LastResult();
+	private final LastResult production = new LastResult();
+	private final LastResult flowering = new LastResult();
+	private final LastResult geneticDecay = new LastResult();
+
 	public BeeHousingModifier(IBeeHousing beeHousing) {
 		this.beeHousing = beeHousing;
 	}
 
+	/**
+	 * @return the modifier of the beekeeping logic of the housing,
+	 * or a new modifier if the housing has no {@link BeekeepingLogic}
+	 */
+	public static IBeeModifier getModifier(IBeeHousing beeHousing) {
+		IBeekeepingLogic beekeepingLogic = beeHousing.getBeekeepingLogic();
+		if (beekeepingLogic instanceof BeekeepingLogic) {
+			return ((BeekeepingLogic) beekeepingLogic).getBeeModifier();
+		}
+		return new BeeHousingModifier(beeHousing);
+	}
+
+	/**
+	 * Compiles the modifiers of the housing again on the next query.
+	 */
+	public void invalidate() {
+		compiled = false;
+	}
+
+	private IBeeModifier[] getModifiers() {
+		boolean outdated = !compiled;
+		boolean versioned = beeHousing instanceof IVersionedBeeHousing;
+		if (versioned) {
+			int version = ((IVersionedBeeHousing) beeHousing).getBeeModifierVersion();
+			outdated |= version != compiledVersion;
+			compiledVersion = version;
+		}
+		// the flags of modifiers with state may change at any time
+		long time = beeHousing.getWorldObj().getTotalWorldTime();
+		if (!versioned || !stateless) {
+			outdated |= time != compiledTime;
+		}
+		compiledTime = time;
+
+		if (outdated) {
+			compile();
+		}
+		return modifiers;
+	}
+
+	private void compile() {
+		List<IBeeModifier> modifierList = new ArrayList<>();
+		sealed = selfLighted = sunlightSimulated = hellish = false;
+		stateless = true;
+		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
+			modifierList.add(modifier);
+			sealed |= modifier.isSealed();
+			selfLighted |= modifier.isSelfLighted();
+			sunlightSimulated |= modifier.isSunlightSimulated();
+			hellish |= modifier.isHellish();
+			stateless &= modifier instanceof IStatelessBeeModifier;
+		}
+		modifiers = modifierList.toArray(NO_MODIFIERS);
+		compiled = true;
+
+		territory.clear();
+		mutation.clear();
+		lifespan.clear();
+		production.clear();
+		flowering.clear();
+		geneticDecay.clear();
+	}
+
 	@Override
 	public float getTerritoryModifier(IBeeGenome genome, final float currentModifier) {
+		IBeeModifier[] modifiers = getModifiers();
+		if (stateless && territory.matches(genome, null, currentModifier)) {
+			return territory.value;
+		}
 		float modifierValue = 1.0f;
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
+		for (IBeeModifier modifier : modifiers) {
 			modifierValue *= modifier.getTerritoryModifier(genome, modifierValue * currentModifier);
 		}
-		return modifierValue;
+		return territory.set(genome, null, currentModifier, modifierValue);
 	}
 
 	@Override
 	public float getMutationModifier(IBeeGenome genome, IBeeGenome mate, final float currentModifier) {
+		IBeeModifier[] modifiers = getModifiers();
+		if (stateless && mutation.matches(genome, mate, currentModifier)) {
+			return mutation.value;
+		}
 		float modifierValue = 1.0f;
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
+		for (IBeeModifier modifier : modifiers) {
 			modifierValue *= modifier.getMutationModifier(genome, mate, modifierValue * currentModifier);
 		}
-		return modifierValue;
+		return mutation.set(genome, mate, currentModifier, modifierValue);
 	}
 
 	@Override
 	public float getLifespanModifier(IBeeGenome genome, @Nullable IBeeGenome mate, final float currentModifier) {
+		IBeeModifier[] modifiers = getModifiers();
+		if (stateless && lifespan.matches(genome, mate, currentModifier)) {
+			return lifespan.value;
+		}
 		float modifierValue = 1.0f;
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
+		for (IBeeModifier modifier : modifiers) {
 			modifierValue *= modifier.getLifespanModifier(genome, mate, modifierValue * currentModifier);
 		}
-		return modifierValue;
+		return lifespan.set(genome, mate, currentModifier, modifierValue);
 	}
 
 	@Override
 	public float getProductionModifier(IBeeGenome genome, final float currentModifier) {
+		IBeeModifier[] modifiers = getModifiers();
+		if (stateless && production.matches(genome, null, currentModifier)) {
+			return production.value;
+		}
 		float modifierValue = 1.0f;
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
+		for (IBeeModifier modifier : modifiers) {
 			modifierValue *= modifier.getProductionModifier(genome, modifierValue * currentModifier);
 		}
-		return modifierValue;
+		return production.set(genome, null, currentModifier, modifierValue);
 	}
 
 	@Override
 	public float getFloweringModifier(IBeeGenome genome, final float currentModifier) {
+		IBeeModifier[] modifiers = getModifiers();
+		if (stateless && flowering.matches(genome, null, currentModifier)) {
+			return flowering.value;
+		}
 		float modifierValue = 1.0f;
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
+		for (IBeeModifier modifier : modifiers) {
 			modifierValue *= modifier.getFloweringModifier(genome, modifierValue * currentModifier);
 		}
-		return modifierValue;
+		return flowering.set(genome, null, currentModifier, modifierValue);
 	}
 
 	@Override
 	public float getGeneticDecay(IBeeGenome genome, final float currentModifier) {
+		IBeeModifier[] modifiers = getModifiers();
+		if (stateless && geneticDecay.matches(genome, null, currentModifier)) {
+			return geneticDecay.value;
+		}
 		float modifierValue = 1.0f;
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
+		for (IBeeModifier modifier : modifiers) {
 			modifierValue *= modifier.getGeneticDecay(genome, modifierValue * currentModifier);
 		}
-		return modifierValue;
+		return geneticDecay.set(genome, null, currentModifier, modifierValue);
 	}
 
 	@Override
 	public boolean isSealed() {
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
-			if (modifier.isSealed()) {
-				return true;
-			}
-		}
-		return false;
+		getModifiers();
+		return sealed;
 	}
 
 	@Override
 	public boolean isSelfLighted() {
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
-			if (modifier.isSelfLighted()) {
-				return true;
-			}
-		}
-		return false;
+		getModifiers();
+		return selfLighted;
 	}
 
 	@Override
 	public boolean isSunlightSimulated() {
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
-			if (modifier.isSunlightSimulated()) {
-				return true;
-			}
-		}
-		return false;
+		getModifiers();
+		return sunlightSimulated;
 	}
 
 	@Override
 	public boolean isHellish() {
-		for (IBeeModifier modifier : beeHousing.getBeeModifiers()) {
-			if (modifier.isHellish()) {
-				return true;
-			}
+		getModifiers();
+		return hellish;
+	}
+
+	/* The last result of a modifier chain and the arguments it was calculated for. */
+	private static class LastResult {
+		@Nullable
+		private IBeeGenome genome;
+		@Nullable
+		private IBeeGenome mate;
+		private float currentModifier;
+		private float value;
+
+		public boolean matches(IBeeGenome genome, @Nullable IBeeGenome mate, float currentModifier) {
+			return this.genome == genome && this.mate == mate && this.currentModifier == currentModifier;
+		}
+
+		public float set(IBeeGenome genome, @Nullable IBeeGenome mate, float currentModifier, float value) {
+			this.genome = genome;
+			this.mate = mate;
+			this.currentModifier = currentModifier;
+			this.value = value;
+			return value;
+		}
+
+		public void clear() {
+			genome = null;
+			mate = null;
 		}
-		return false;
 	}
 }
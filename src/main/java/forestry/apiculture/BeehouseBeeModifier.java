@@ -15,7 +15,7 @@ import javax.annotation.Nullable;
 import forestry.api.apiculture.DefaultBeeModifier;
 import forestry.api.apiculture.IBeeGenome;
 
-public class BeehouseBeeModifier extends DefaultBeeModifier {
+public class BeehouseBeeModifier extends DefaultBeeModifier implements IStatelessBeeModifier {
 	@Override
 	public float getProductionModifier(IBeeGenome genome, float currentModifier) {
 		return 0.25f;
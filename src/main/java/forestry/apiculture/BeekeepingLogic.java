@@ -29,7 +29,6 @@ import forestry.api.apiculture.IBeeGenome;
 import forestry.api.apiculture.IBeeHousing;
 import forestry.api.apiculture.IBeeHousingInventory;
 import forestry.api.apiculture.IBeeListener;
-import forestry.api.apiculture.IBeeModifier;
 import forestry.api.apiculture.IBeekeepingLogic;
 import forestry.api.core.IErrorLogic;
 import forestry.api.core.IErrorState;
@@ -62,7 +61,7 @@ public class BeekeepingLogic implements IBeekeepingLogic {
 	private static final int totalBreedingTime = Constants.APIARY_BREEDING_TIME;
 
 	private final IBeeHousing housing;
-	private final IBeeModifier beeModifier;
+	private final BeeHousingModifier beeModifier;
 	private final IBeeListener beeListener;
 
 	private int beeProgress;
@@ -85,7 +84,7 @@ public class BeekeepingLogic implements IBeekeepingLogic {
 
 	public BeekeepingLogic(IBeeHousing housing) {
 		this.housing = housing;
-		this.beeModifier = BeeManager.beeRoot.createBeeHousingModifier(housing);
+		this.beeModifier = new BeeHousingModifier(housing);
 		this.beeListener = BeeManager.beeRoot.createBeeHousingListener(housing);
 	}
 
@@ -251,8 +250,16 @@ public class BeekeepingLogic implements IBeekeepingLogic {
 		}
 	}
 
+	/**
+	 * @return the combined bee modifiers of the housing, shared with everything else that combines them
+	 */
+	public BeeHousingModifier getBeeModifier() {
+		return beeModifier;
+	}
+
 	@Override
 	public void clearCachedValues() {
+		beeModifier.invalidate();
 		if (!housing.getWorldObj().isRemote) {
 			hasFlowersCache.clear();
 			queenCanWorkCache.clear();
@@ -0,0 +1,20 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.apiculture;
+
+import forestry.api.apiculture.IBeeModifier;
+
+/**
+ * A bee modifier whose values only depend on the arguments it is asked with.
+ * {@link BeeHousingModifier} only keeps the results of modifier chains that consist of these modifiers.
+ */
+public interface IStatelessBeeModifier extends IBeeModifier {
+}
@@ -0,0 +1,24 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.apiculture;
+
+import forestry.api.apiculture.IBeeHousing;
+
+/**
+ * A bee housing that can tell when its bee modifiers may have changed,
+ * so the {@link BeeHousingModifier} of the housing only has to compile them again after a change.
+ */
+public interface IVersionedBeeHousing extends IBeeHousing {
+	/**
+	 * @return a number that changes whenever the bee modifiers of the housing may have changed
+	 */
+	int getBeeModifierVersion();
+}
@@ -22,6 +22,7 @@ import forestry.api.apiculture.IHiveFrame;
 import forestry.apiculture.ApiaryBeeListener;
 import forestry.apiculture.ApiaryBeeModifier;
 import forestry.apiculture.IApiary;
+import forestry.apiculture.IVersionedBeeHousing;
 import forestry.apiculture.PluginApiculture;
 import forestry.apiculture.gui.ContainerMinecartBeehouse;
 import forestry.apiculture.gui.GuiBeeHousing;
@@ -37,7 +38,7 @@ import net.minecraft.world.World;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
-public class EntityMinecartApiary extends EntityMinecartBeeHousingBase implements IApiary {
+public class EntityMinecartApiary extends EntityMinecartBeeHousingBase implements IApiary, IVersionedBeeHousing {
 
 	private static final IBeeModifier beeModifier = new ApiaryBeeModifier();
 
@@ -96,6 +97,12 @@ public class EntityMinecartApiary extends EntityMinecartBeeHousingBase implement
 		return beeModifiers;
 	}
 
+	@Override
+	public int getBeeModifierVersion() {
+		// the frames are the only modifiers that can change
+		return inventory.getChangeVersion();
+	}
+
 	@Override
 	public Iterable<IBeeListener> getBeeListeners() {
 		return Collections.singleton(beeListener);
@@ -17,6 +17,7 @@ import forestry.api.apiculture.IBeeHousingInventory;
 import forestry.api.apiculture.IBeeListener;
 import forestry.api.apiculture.IBeeModifier;
 import forestry.apiculture.BeehouseBeeModifier;
+import forestry.apiculture.IVersionedBeeHousing;
 import forestry.apiculture.InventoryBeeHousing;
 import forestry.apiculture.PluginApiculture;
 import forestry.apiculture.gui.ContainerMinecartBeehouse;
@@ -31,7 +32,7 @@ import net.minecraft.world.World;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
-public class EntityMinecartBeehouse extends EntityMinecartBeeHousingBase {
+public class EntityMinecartBeehouse extends EntityMinecartBeeHousingBase implements IVersionedBeeHousing {
 	private static final IBeeModifier beeModifier = new BeehouseBeeModifier();
 	private static final IBeeListener beeListener = new DefaultBeeListener();
 	private final InventoryBeeHousing beeInventory = new InventoryBeeHousing(9);
@@ -68,6 +69,11 @@ public class EntityMinecartBeehouse extends EntityMinecartBeeHousingBase {
 		return Collections.singleton(beeModifier);
 	}
 
+	@Override
+	public int getBeeModifierVersion() {
+		return 0;
+	}
+
 	@Override
 	public Iterable<IBeeListener> getBeeListeners() {
 		return Collections.singleton(beeListener);
@@ -254,7 +254,9 @@ public class BeeRoot extends SpeciesRoot implements IBeeRoot {
 	@Override
 	public List<IBeeMutation> getMutations(boolean shuffle) {
 		if (shuffle) {
-			Collections.shuffle(beeMutations);
+			List<IBeeMutation> shuffled = new ArrayList<>(beeMutations);
+			Collections.shuffle(shuffled);
+			return shuffled;
 		}
 		return beeMutations;
 	}
@@ -272,6 +274,7 @@ public class BeeRoot extends SpeciesRoot implements IBeeRoot {
 		}
 
 		beeMutations.add((IBeeMutation) mutation);
+		invalidateMutationIndex();
 	}
 
 	/* BREEDING MODES */
@@ -330,19 +333,7 @@ public class BeeRoot extends SpeciesRoot implements IBeeRoot {
 
 	@Override
 	public IApiaristTracker getBreedingTracker(World world, @Nullable GameProfile player) {
-		String filename = "ApiaristTracker." + (player == null ? "common" : player.getId());
-		ApiaristTracker tracker = (ApiaristTracker) world.loadData(ApiaristTracker.class, filename);
-
-		// Create a tracker if there is none yet.
-		if (tracker == null) {
-			tracker = new ApiaristTracker(filename);
-			world.setData(filename, tracker);
-		}
-
-		tracker.setUsername(player);
-		tracker.setWorld(world);
-
-		return tracker;
+		return getBreedingTracker(world, player, "ApiaristTracker.", ApiaristTracker.class, ApiaristTracker::new);
 	}
 
 	@Override
@@ -352,7 +343,7 @@ public class BeeRoot extends SpeciesRoot implements IBeeRoot {
 
 	@Override
 	public IBeeModifier createBeeHousingModifier(IBeeHousing housing) {
-		return new BeeHousingModifier(housing);
+		return BeeHousingModifier.getModifier(housing);
 	}
 
 	@Override
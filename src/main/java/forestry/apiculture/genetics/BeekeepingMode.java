@@ -23,6 +23,7 @@ import forestry.api.apiculture.IBeeGenome;
 import forestry.api.apiculture.IBeeHousing;
 import forestry.api.apiculture.IBeeModifier;
 import forestry.api.apiculture.IBeekeepingMode;
+import forestry.apiculture.IStatelessBeeModifier;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 
@@ -135,7 +136,7 @@ public class BeekeepingMode implements IBeekeepingMode {
 		return beeModifier;
 	}
 
-	private static class BeekeepingModeBeeModifier extends DefaultBeeModifier {
+	private static class BeekeepingModeBeeModifier extends DefaultBeeModifier implements IStatelessBeeModifier {
 		private final float mutationModifier;
 		private final float lifespanModifier;
 		private final float speedModifier;
@@ -19,6 +19,7 @@ import forestry.api.apiculture.IBeeHousing;
 import forestry.api.apiculture.IBeeModifier;
 import forestry.api.apiculture.IHiveFrame;
 import forestry.api.core.Tabs;
+import forestry.apiculture.IStatelessBeeModifier;
 import forestry.core.items.ItemForestry;
 import forestry.core.utils.Translator;
 import net.minecraft.entity.player.EntityPlayer;
@@ -63,7 +64,7 @@ public class ItemHiveFrame extends ItemForestry implements IHiveFrame {
 		}
 	}
 
-	private static class HiveFrameBeeModifier extends DefaultBeeModifier {
+	private static class HiveFrameBeeModifier extends DefaultBeeModifier implements IStatelessBeeModifier {
 		private static final float production = 2f;
 		private final float geneticDecay;
 
@@ -29,6 +29,7 @@ import forestry.api.core.ForestryAPI;
 import forestry.api.multiblock.IAlvearyComponent;
 import forestry.api.multiblock.IMultiblockComponent;
 import forestry.apiculture.AlvearyBeeModifier;
+import forestry.apiculture.IVersionedBeeHousing;
 import forestry.apiculture.InventoryBeeHousing;
 import forestry.core.inventory.FakeInventoryAdapter;
 import forestry.core.inventory.IInventoryAdapter;
@@ -50,7 +51,7 @@ import net.minecraft.world.biome.Biome;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
-public class AlvearyController extends RectangularMultiblockControllerBase implements IAlvearyControllerInternal, IClimateControlled {
+public class AlvearyController extends RectangularMultiblockControllerBase implements IAlvearyControllerInternal, IVersionedBeeHousing, IClimateControlled {
 	private final InventoryBeeHousing inventory;
 	private final IBeekeepingLogic beekeepingLogic;
 
@@ -59,6 +60,7 @@ public class AlvearyController extends RectangularMultiblockControllerBase imple
 
 	// PARTS
 	private final Set<IBeeModifier> beeModifiers = new HashSet<>();
+	private int beeModifierVersion;
 	private final Set<IBeeListener> beeListeners = new HashSet<>();
 	private final Set<IAlvearyComponent.Climatiser> climatisers = new HashSet<>();
 	private final Set<IAlvearyComponent.Active> activeComponents = new HashSet<>();
@@ -103,6 +105,11 @@ public class AlvearyController extends RectangularMultiblockControllerBase imple
 		return beeModifiers;
 	}
 
+	@Override
+	public int getBeeModifierVersion() {
+		return beeModifierVersion;
+	}
+
 	@Override
 	public void onAttachedPartWithMultiblockData(IMultiblockComponent part, NBTTagCompound data) {
 		this.readFromNBT(data);
@@ -115,6 +122,7 @@ public class AlvearyController extends RectangularMultiblockControllerBase imple
 				IAlvearyComponent.BeeModifier alvearyBeeModifier = (IAlvearyComponent.BeeModifier) newPart;
 				IBeeModifier beeModifier = alvearyBeeModifier.getBeeModifier();
 				beeModifiers.add(beeModifier);
+				beeModifierVersion++;
 			}
 
 			if (newPart instanceof IAlvearyComponent.BeeListener) {
@@ -140,6 +148,7 @@ public class AlvearyController extends RectangularMultiblockControllerBase imple
 				IAlvearyComponent.BeeModifier alvearyBeeModifier = (IAlvearyComponent.BeeModifier) oldPart;
 				IBeeModifier beeModifier = alvearyBeeModifier.getBeeModifier();
 				beeModifiers.remove(beeModifier);
+				beeModifierVersion++;
 			}
 
 			if (oldPart instanceof IAlvearyComponent.BeeListener) {
@@ -19,6 +19,7 @@ import forestry.api.apiculture.IBeeListener;
 import forestry.api.apiculture.IBeeModifier;
 import forestry.api.apiculture.IBeekeepingLogic;
 import forestry.apiculture.FakeBeekeepingLogic;
+import forestry.apiculture.IVersionedBeeHousing;
 import forestry.apiculture.tiles.FakeBeeHousingInventory;
 import forestry.core.inventory.FakeInventoryAdapter;
 import forestry.core.inventory.IInventoryAdapter;
@@ -28,7 +29,7 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.biome.Biome;
 
-public class FakeAlvearyController extends FakeMultiblockController implements IAlvearyControllerInternal {
+public class FakeAlvearyController extends FakeMultiblockController implements IAlvearyControllerInternal, IVersionedBeeHousing {
 	public static final FakeAlvearyController instance = new FakeAlvearyController();
 
 	private FakeAlvearyController() {
@@ -40,6 +41,11 @@ public class FakeAlvearyController extends FakeMultiblockController implements I
 		return Collections.emptyList();
 	}
 
+	@Override
+	public int getBeeModifierVersion() {
+		return 0;
+	}
+
 	@Override
 	public Iterable<IBeeListener> getBeeListeners() {
 		return Collections.emptyList();
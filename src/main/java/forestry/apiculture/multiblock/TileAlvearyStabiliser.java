@@ -14,6 +14,7 @@ import forestry.api.apiculture.DefaultBeeModifier;
 import forestry.api.apiculture.IBeeGenome;
 import forestry.api.apiculture.IBeeModifier;
 import forestry.api.multiblock.IAlvearyComponent;
+import forestry.apiculture.IStatelessBeeModifier;
 
 public class TileAlvearyStabiliser extends TileAlveary implements IAlvearyComponent.BeeModifier {
 
@@ -24,7 +25,7 @@ public class TileAlvearyStabiliser extends TileAlveary implements IAlvearyCompon
 		return beeModifier;
 	}
 
-	private static class AlvearyStabiliserBeeModifier extends DefaultBeeModifier {
+	private static class AlvearyStabiliserBeeModifier extends DefaultBeeModifier implements IStatelessBeeModifier {
 		@Override
 		public float getMutationModifier(IBeeGenome genome, IBeeGenome mate, float currentModifier) {
 			return 0.0f;
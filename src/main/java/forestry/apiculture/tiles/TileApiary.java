@@ -22,6 +22,7 @@ import forestry.api.apiculture.IHiveFrame;
 import forestry.apiculture.ApiaryBeeListener;
 import forestry.apiculture.ApiaryBeeModifier;
 import forestry.apiculture.IApiary;
+import forestry.apiculture.IVersionedBeeHousing;
 import forestry.apiculture.gui.ContainerBeeHousing;
 import forestry.apiculture.gui.GuiBeeHousing;
 import forestry.apiculture.inventory.IApiaryInventory;
@@ -32,7 +33,7 @@ import net.minecraft.inventory.Container;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
-public class TileApiary extends TileBeeHousingBase implements IApiary {
+public class TileApiary extends TileBeeHousingBase implements IApiary, IVersionedBeeHousing {
 	private final IBeeModifier beeModifier = new ApiaryBeeModifier();
 	private final IBeeListener beeListener = new ApiaryBeeListener(this);
 	private final InventoryApiary inventory = new InventoryApiary();
@@ -65,6 +66,12 @@ public class TileApiary extends TileBeeHousingBase implements IApiary {
 		return beeModifiers;
 	}
 
+	@Override
+	public int getBeeModifierVersion() {
+		// the frames are the only modifiers that can change
+		return inventory.getChangeVersion();
+	}
+
 	@Override
 	public Iterable<IBeeListener> getBeeListeners() {
 		return Collections.singleton(beeListener);
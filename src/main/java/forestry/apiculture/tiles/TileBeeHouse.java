@@ -17,6 +17,7 @@ import forestry.api.apiculture.IBeeHousingInventory;
 import forestry.api.apiculture.IBeeListener;
 import forestry.api.apiculture.IBeeModifier;
 import forestry.apiculture.BeehouseBeeModifier;
+import forestry.apiculture.IVersionedBeeHousing;
 import forestry.apiculture.InventoryBeeHousing;
 import forestry.apiculture.gui.ContainerBeeHousing;
 import forestry.apiculture.gui.GuiBeeHousing;
@@ -26,7 +27,7 @@ import net.minecraft.inventory.Container;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
-public class TileBeeHouse extends TileBeeHousingBase {
+public class TileBeeHouse extends TileBeeHousingBase implements IVersionedBeeHousing {
 	private static final IBeeModifier beeModifier = new BeehouseBeeModifier();
 
 	private final IBeeListener beeListener;
@@ -51,6 +52,11 @@ public class TileBeeHouse extends TileBeeHousingBase {
 		return Collections.singleton(beeModifier);
 	}
 
+	@Override
+	public int getBeeModifierVersion() {
+		return 0;
+	}
+
 	@Override
 	public Iterable<IBeeListener> getBeeListeners() {
 		return Collections.singleton(beeListener);
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.apiculture.worldgen;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import forestry.api.core.EnumHumidity;
+import forestry.api.core.EnumTemperature;
+import forestry.core.config.Config;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.biome.Biome;
+
+/**
+ * The hives that can generate in one biome, precomputed from the biome and humidity checks of every hive.
+ * <p>
+ * Every candidate rolls its own generation chance and the hives that passed are tried in a random order,
+ * hives that can't generate in the biome are skipped without a roll.
+ * The temperature of a biome only depends on the position above a height of {@link #MAX_CONSTANT_TEMPERATURE_HEIGHT},
+ * below it the temperature check of every hive is cached.
+ */
+public final class HiveCandidates {
+	/* The temperature of a biome is the same for all positions at or below this height, see Biome#getFloatTemperature */
+	private static final int MAX_CONSTANT_TEMPERATURE_HEIGHT = 64;
+
+	private final Biome biome;
+	private final List<Hive> hives;
+	/* The generation chance of every candidate, in percent. */
+	private final float[] chances;
+	private final Set<Hive> goodBaseTemperature;
+
+	public HiveCandidates(Biome biome, List<Hive> allHives) {
+		this.biome = biome;
+		EnumHumidity humidity = EnumHumidity.getFromValue(biome.getRainfall());
+		EnumTemperature baseTemperature = EnumTemperature.getFromValue(biome.getTemperature());
+
+		List<Hive> candidates = new ArrayList<>();
+		List<Float> chances = new ArrayList<>();
+		Set<Hive> goodBaseTemperature = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (Hive hive : allHives) {
+			float hiveChance = hive.genChance() * Config.getBeehivesAmount();
+			if (hiveChance > 0 && hive.isGoodBiome(biome) && hive.isGoodHumidity(humidity)) {
+				candidates.add(hive);
+				chances.add(hiveChance);
+			}
+			// swarmers can place hives that are no candidates, so cache all of them
+			if (hive.isGoodTemperature(baseTemperature)) {
+				goodBaseTemperature.add(hive);
+			}
+		}
+
+		this.hives = Collections.unmodifiableList(candidates);
+		this.chances = new float[chances.size()];
+		for (int i = 0; i < this.chances.length; i++) {
+			this.chances[i] = chances.get(i);
+		}
+		this.goodBaseTemperature = goodBaseTemperature;
+	}
+
+	public boolean isEmpty() {
+		return hives.isEmpty();
+	}
+
+	public List<Hive> getHives() {
+		return hives;
+	}
+
+	/**
+	 * Rolls the generation chance of every candidate.
+	 *
+	 * @return the hives that passed their chance, in a random order
+	 */
+	public List<Hive> rollHives(Random rand) {
+		List<Hive> passedHives = Collections.emptyList();
+		for (int i = 0; i < chances.length; i++) {
+			if (chances[i] >= rand.nextFloat() * 100.0f) {
+				if (passedHives.isEmpty()) {
+					passedHives = new ArrayList<>();
+				}
+				passedHives.add(hives.get(i));
+			}
+		}
+		// usually no or one hive passes, so only these are shuffled
+		if (passedHives.size() > 1) {
+			Collections.shuffle(passedHives, rand);
+		}
+		return passedHives;
+	}
+
+	/**
+	 * @param pos a position in the biome of these candidates
+	 */
+	public boolean isGoodTemperature(Hive hive, BlockPos pos) {
+		if (pos.getY() <= MAX_CONSTANT_TEMPERATURE_HEIGHT) {
+			return goodBaseTemperature.contains(hive);
+		}
+		EnumTemperature temperature = EnumTemperature.getFromValue(biome.getFloatTemperature(pos));
+		return hive.isGoodTemperature(temperature);
+	}
+}
@@ -10,12 +10,9 @@
  ******************************************************************************/
 package forestry.apiculture.worldgen;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 
-import forestry.api.core.EnumHumidity;
-import forestry.api.core.EnumTemperature;
 import forestry.apiculture.PluginApiculture;
 import forestry.core.config.Config;
 import forestry.core.config.Constants;
@@ -43,18 +40,16 @@ public abstract class HiveDecorator {
 	}
 
 	public static void decorateHives(World world, Random rand, int chunkX, int chunkZ) {
-		List<Hive> hives = PluginApiculture.getHiveRegistry().getHives();
+		HiveRegistry hiveRegistry = PluginApiculture.getHiveRegistry();
 
 		if (Config.generateBeehivesDebug) {
-			decorateHivesDebug(world, rand, chunkX, chunkZ, hives);
+			decorateHivesDebug(world, rand, chunkX, chunkZ, hiveRegistry);
 			return;
 		}
 
 		int worldX = (chunkX << 4) + 8;
 		int worldZ = (chunkZ << 4) + 8;
 
-		Collections.shuffle(hives, rand);
-
 		for (int tries = 0; tries < 4; tries++) {
 			int x = worldX + rand.nextInt(16);
 			int z = worldZ + rand.nextInt(16);
@@ -64,42 +59,51 @@ public abstract class HiveDecorator {
 				Log.error("tried to generate a hive in an unloaded area.");
 				return;
 			}
-			Biome biome = world.getBiome(pos);
-			EnumHumidity humidity = EnumHumidity.getFromValue(biome.getRainfall());
-
-			for (Hive hive : hives) {
-				if (hive.genChance() * Config.getBeehivesAmount() >= rand.nextFloat() * 100.0f) {
-					if (hive.isGoodBiome(biome) && hive.isGoodHumidity(humidity)) {
-						if (tryGenHive(world, rand, x, z, hive)) {
-							return;
-						}
-					}
+			HiveCandidates candidates = hiveRegistry.getCandidates(world.getBiome(pos));
+			if (candidates.isEmpty()) {
+				continue;
+			}
+
+			for (Hive hive : candidates.rollHives(rand)) {
+				if (tryGenHive(world, rand, x, z, hive, candidates)) {
+					return;
 				}
 			}
 		}
 	}
 
-	private static void decorateHivesDebug(World world, Random rand, int chunkX, int chunkZ, List<Hive> hives) {
+	private static void decorateHivesDebug(World world, Random rand, int chunkX, int chunkZ, HiveRegistry hiveRegistry) {
 		int worldX = (chunkX << 4) + 8;
 		int worldZ = (chunkZ << 4) + 8;
 		Biome biome = world.getBiome(new BlockPos(chunkX, 0, chunkZ));
-		EnumHumidity humidity = EnumHumidity.getFromValue(biome.getRainfall());
+		HiveCandidates candidates = hiveRegistry.getCandidates(biome);
+		List<Hive> hives = candidates.getHives();
+		if (hives.isEmpty()) {
+			return;
+		}
 
 		for (int x = 0; x < 16; x++) {
 			for (int z = 0; z < 16; z++) {
-				Collections.shuffle(hives, world.rand);
-				for (Hive hive : hives) {
-					if (!hive.isGoodBiome(biome) || !hive.isGoodHumidity(humidity)) {
-						continue;
-					}
-
-					tryGenHive(world, rand, worldX + x, worldZ + z, hive);
+				// start at a random hive instead of shuffling all of them
+				int offset = rand.nextInt(hives.size());
+				for (int i = 0; i < hives.size(); i++) {
+					Hive hive = hives.get((offset + i) % hives.size());
+					tryGenHive(world, rand, worldX + x, worldZ + z, hive, candidates);
 				}
 			}
 		}
 	}
 
 	public static boolean tryGenHive(World world, Random rand, int x, int z, Hive hive) {
+		BlockPos pos = new BlockPos(x, 0, z);
+		HiveCandidates candidates = PluginApiculture.getHiveRegistry().getCandidates(world.getBiome(pos));
+		return tryGenHive(world, rand, x, z, hive, candidates);
+	}
+
+	/**
+	 * @param candidates the hive candidates of the biome at x and z, used for the cached temperature checks
+	 */
+	private static boolean tryGenHive(World world, Random rand, int x, int z, Hive hive, HiveCandidates candidates) {
 
 		final BlockPos hivePos = hive.getPosForHive(world, x, z);
 
@@ -111,9 +115,7 @@ public abstract class HiveDecorator {
 			return false;
 		}
 
-		Biome biome = world.getBiome(hivePos);
-		EnumTemperature temperature = EnumTemperature.getFromValue(biome.getFloatTemperature(hivePos));
-		if (!hive.isGoodTemperature(temperature)) {
+		if (!candidates.isGoodTemperature(hive, hivePos)) {
 			return false;
 		}
 
@@ -13,16 +13,20 @@ package forestry.apiculture.worldgen;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
 import forestry.api.apiculture.IHiveDrop;
 import forestry.api.apiculture.hives.IHiveDescription;
 import forestry.api.apiculture.hives.IHiveRegistry;
+import net.minecraft.world.biome.Biome;
 
 public class HiveRegistry implements IHiveRegistry {
 
 	private final Map<String, Hive> hives = new HashMap<>();
+	/* Built lazily for every biome a hive is generated in, discarded when a new hive is registered. */
+	private final Map<Biome, HiveCandidates> candidatesByBiome = new IdentityHashMap<>();
 
 	@Override
 	public void registerHive(String hiveName, IHiveDescription hiveDescription) {
@@ -32,6 +36,7 @@ public class HiveRegistry implements IHiveRegistry {
 
 		Hive hive = new Hive(hiveDescription);
 		hives.put(hiveName, hive);
+		candidatesByBiome.clear();
 	}
 
 	@Override
@@ -53,6 +58,18 @@ public class HiveRegistry implements IHiveRegistry {
 		return new ArrayList<>(hives.values());
 	}
 
+	/**
+	 * @return the hives that can generate in the biome
+	 */
+	public HiveCandidates getCandidates(Biome biome) {
+		HiveCandidates candidates = candidatesByBiome.get(biome);
+		if (candidates == null) {
+			candidates = new HiveCandidates(biome, getHives());
+			candidatesByBiome.put(biome, candidates);
+		}
+		return candidates;
+	}
+
 	public List<IHiveDrop> getDrops(String hiveName) {
 		Hive hive = hives.get(hiveName);
 		if (hive == null) {
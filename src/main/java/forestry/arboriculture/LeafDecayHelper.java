@@ -1,6 +1,11 @@
 package forestry.arboriculture;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Random;
+import java.util.Set;
 
 import forestry.arboriculture.blocks.BlockAbstractLeaves;
 import net.minecraft.block.Block;
@@ -12,19 +17,15 @@ import net.minecraft.world.World;
 /**
  * Based on vanilla leaf decay in {@link BlockLeaves#updateTick(World, BlockPos, IBlockState, Random)}
  * but accepts leaves that are connected further from a trunk
+ * <p>
+ * Leaves that should check for decay are collected during the tick and resolved together at the end of the
+ * world tick by a {@link LeafDecaySolver}, so the leaves of a felled tree share one scan of their surroundings.
  */
 public class LeafDecayHelper {
-	private static final byte SUSTAINS_LEAVES = 0;
-	private static final byte NOT_SUSTAINS_LEAVES = -1;
-	private static final byte IS_LEAVES = -2;
-	private static final int ARRAY_SIZE = 32;
-	private static final byte[][][] leafDecayValues;
+	private static final Map<World, Set<BlockPos>> pendingLeaves = new HashMap<>();
+	private static final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
 
-	static {
-		leafDecayValues = new byte[ARRAY_SIZE][ARRAY_SIZE][ARRAY_SIZE];
-	}
-
-	public static void leafDecay(BlockAbstractLeaves leaves, World world, BlockPos pos) {
+	public static void leafDecay(World world, BlockPos pos) {
 		if (world.isRemote) {
 			return;
 		}
@@ -38,72 +39,73 @@ public class LeafDecayHelper {
 		}
 
 		if (state.getValue(BlockLeaves.CHECK_DECAY) && state.getValue(BlockLeaves.DECAYABLE)) {
-			byte radius = 4;
-			int arrayOffset = ARRAY_SIZE / 2;
-
-			if (world.isAreaLoaded(pos, radius + 1)) {
-				for (int xOffset = -radius; xOffset <= radius; ++xOffset) {
-					for (int yOffset = -radius; yOffset <= radius; ++yOffset) {
-						for (int zOffset = -radius; zOffset <= radius; ++zOffset) {
-							BlockPos blockPos = pos.add(xOffset, yOffset, zOffset);
-							IBlockState blockState = world.getBlockState(blockPos);
-							Block block = blockState.getBlock();
-							if (!block.canSustainLeaves(blockState, world, blockPos)) {
-								if (block.isLeaves(blockState, world, blockPos)) {
-									leafDecayValues[xOffset + arrayOffset][yOffset + arrayOffset][zOffset + arrayOffset] = IS_LEAVES;
-								} else {
-									leafDecayValues[xOffset + arrayOffset][yOffset + arrayOffset][zOffset + arrayOffset] = NOT_SUSTAINS_LEAVES;
-								}
-							} else {
-								leafDecayValues[xOffset + arrayOffset][yOffset + arrayOffset][zOffset + arrayOffset] = SUSTAINS_LEAVES;
-							}
-						}
-					}
-				}
-
-				for (byte sustainedValue = 1; sustainedValue <= 8; ++sustainedValue) {
-					for (int xOffset = -radius; xOffset <= radius; ++xOffset) {
-						for (int yOffset = -radius; yOffset <= radius; ++yOffset) {
-							for (int zOffset = -radius; zOffset <= radius; ++zOffset) {
-								if (leafDecayValues[xOffset + arrayOffset][yOffset + arrayOffset][zOffset + arrayOffset] == sustainedValue - 1) {
-									if (leafDecayValues[(xOffset + arrayOffset - 1)][yOffset + arrayOffset][zOffset + arrayOffset] == IS_LEAVES) {
-										leafDecayValues[(xOffset + arrayOffset - 1)][yOffset + arrayOffset][zOffset + arrayOffset] = sustainedValue;
-									}
-
-									if (leafDecayValues[(xOffset + arrayOffset + 1)][yOffset + arrayOffset][zOffset + arrayOffset] == IS_LEAVES) {
-										leafDecayValues[(xOffset + arrayOffset + 1)][yOffset + arrayOffset][zOffset + arrayOffset] = sustainedValue;
-									}
-
-									if (leafDecayValues[xOffset + arrayOffset][(yOffset + arrayOffset - 1)][zOffset + arrayOffset] == IS_LEAVES) {
-										leafDecayValues[xOffset + arrayOffset][(yOffset + arrayOffset - 1)][zOffset + arrayOffset] = sustainedValue;
-									}
-
-									if (leafDecayValues[xOffset + arrayOffset][(yOffset + arrayOffset + 1)][zOffset + arrayOffset] == IS_LEAVES) {
-										leafDecayValues[xOffset + arrayOffset][(yOffset + arrayOffset + 1)][zOffset + arrayOffset] = sustainedValue;
-									}
+			Set<BlockPos> pending = pendingLeaves.computeIfAbsent(world, k -> new LinkedHashSet<>());
+			pending.add(pos.toImmutable());
+		}
+	}
 
-									if (leafDecayValues[xOffset + arrayOffset][yOffset + arrayOffset][zOffset + arrayOffset - 1] == IS_LEAVES) {
-										leafDecayValues[xOffset + arrayOffset][yOffset + arrayOffset][zOffset + arrayOffset - 1] = sustainedValue;
-									}
+	/**
+	 * Decays all leaves that were collected for the world during this tick and are not sustained anymore.
+	 */
+	public static void decayPendingLeaves(World world) {
+		Set<BlockPos> pending = pendingLeaves.remove(world);
+		if (pending == null || pending.isEmpty()) {
+			return;
+		}
 
-									if (leafDecayValues[xOffset + arrayOffset][yOffset + arrayOffset][zOffset + arrayOffset + 1] == IS_LEAVES) {
-										leafDecayValues[xOffset + arrayOffset][yOffset + arrayOffset][zOffset + arrayOffset + 1] = sustainedValue;
-									}
-								}
-							}
-						}
-					}
-				}
+		Scratch scratch = LeafDecayHelper.scratch.get();
+		int count = 0;
+		BlockPos[] positions = scratch.ensureCapacity(pending.size());
+		for (BlockPos pos : pending) {
+			// leaves that are near unloaded chunks stay marked and are checked again on a later update
+			if (!world.isAreaLoaded(pos, LeafDecaySolver.MAX_DISTANCE + 1)) {
+				continue;
 			}
+			IBlockState state = world.getBlockState(pos);
+			Block block = state.getBlock();
+			if (block instanceof BlockAbstractLeaves && state.getValue(BlockLeaves.CHECK_DECAY) && state.getValue(BlockLeaves.DECAYABLE)) {
+				positions[count++] = pos;
+			}
+		}
+		if (count == 0) {
+			return;
+		}
 
-			byte sustainValue = leafDecayValues[arrayOffset][arrayOffset][arrayOffset];
+		boolean[] sustained = scratch.sustained;
+		scratch.solver.solve(world, positions, count, sustained);
 
-			if (sustainValue >= 0) {
+		for (int i = 0; i < count; i++) {
+			BlockPos pos = positions[i];
+			IBlockState state = world.getBlockState(pos);
+			Block block = state.getBlock();
+			if (sustained[i]) {
 				world.setBlockState(pos, state.withProperty(BlockLeaves.CHECK_DECAY, false), 4); // stop trying to decay
 			} else {
-				leaves.dropBlockAsItem(world, pos, state, 0);
+				block.dropBlockAsItem(world, pos, state, 0);
 				world.setBlockToAir(pos);
 			}
 		}
+		Arrays.fill(positions, 0, count, null);
+	}
+
+	public static void onWorldUnload(World world) {
+		pendingLeaves.remove(world);
+	}
+
+	/**
+	 * Buffers that are reused for every batch of the thread.
+	 */
+	private static class Scratch {
+		private final LeafDecaySolver solver = new LeafDecaySolver();
+		private BlockPos[] positions = new BlockPos[0];
+		private boolean[] sustained = new boolean[0];
+
+		private BlockPos[] ensureCapacity(int capacity) {
+			if (positions.length < capacity) {
+				positions = new BlockPos[capacity];
+				sustained = new boolean[capacity];
+			}
+			return positions;
+		}
 	}
 }
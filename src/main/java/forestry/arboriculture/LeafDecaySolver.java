@@ -0,0 +1,272 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.arboriculture;
+
+import java.util.Arrays;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+/**
+ * Finds out which of a batch of leaves are sustained, see {@link LeafDecayHelper}.
+ * <p>
+ * A leaf is sustained if it is connected by at most {@link #MAX_DISTANCE} steps through other leaves to a block
+ * that can sustain leaves.
+ * The solver first explores the leaves around all leaves of the batch at once and then propagates the distance
+ * from the found sustaining blocks. Every block is read only once per batch, no matter how many leaves of the
+ * batch are close to it.
+ * <p>
+ * The scratch buffers are reused for every batch, so an instance must only be used by one thread.
+ */
+class LeafDecaySolver {
+	public static final int MAX_DISTANCE = 8;
+
+	private static final byte SUSTAINS_LEAVES = 0;
+	private static final byte NOT_SUSTAINS_LEAVES = -1;
+	private static final byte IS_LEAVES = -2;
+	private static final byte UNREACHED = Byte.MAX_VALUE;
+	private static final int INITIAL_CAPACITY = 4096;
+
+	private final BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
+
+	/* Open addressing hash table of the visited blocks. A slot is used if its generation is the current generation. */
+	private long[] keys;
+	private int[] generations;
+	private int[] xs;
+	private int[] ys;
+	private int[] zs;
+	private byte[] types;
+	private byte[] distances;
+	private int generation;
+	private int size;
+
+	/* Slots of the blocks that are waiting to be processed by the current search. */
+	private int[] queue;
+	private int queueSize;
+
+	public LeafDecaySolver() {
+		allocate(INITIAL_CAPACITY);
+		this.queue = new int[INITIAL_CAPACITY];
+	}
+
+	/**
+	 * @param leaves  the positions of the leaves of the batch. All of them must be loaded with a radius of {@link #MAX_DISTANCE}.
+	 * @param results is filled with true for every sustained leaf and false for every leaf that should decay
+	 */
+	public void solve(World world, BlockPos[] leaves, int count, boolean[] results) {
+		clear();
+
+		// Explore the leaves around the batch. Only leaves that are closer than the maximal distance to any leaf
+		// of the batch can be on the way to a sustaining block, but their neighbours have to be known.
+		for (int i = 0; i < count; i++) {
+			BlockPos pos = leaves[i];
+			int slot = visit(world, pos.getX(), pos.getY(), pos.getZ());
+			if (types[slot] == IS_LEAVES && distances[slot] != 0) {
+				distances[slot] = 0;
+				enqueue(slot);
+			}
+		}
+		for (int head = 0; head < queueSize; head++) {
+			int slot = queue[head];
+			int depth = distances[slot];
+			if (depth >= MAX_DISTANCE) {
+				continue;
+			}
+			int x = xs[slot];
+			int y = ys[slot];
+			int z = zs[slot];
+			exploreNeighbour(world, x - 1, y, z, depth);
+			exploreNeighbour(world, x + 1, y, z, depth);
+			exploreNeighbour(world, x, y - 1, z, depth);
+			exploreNeighbour(world, x, y + 1, z, depth);
+			exploreNeighbour(world, x, y, z - 1, depth);
+			exploreNeighbour(world, x, y, z + 1, depth);
+		}
+
+		// Propagate the distance from every found sustaining block through the explored leaves.
+		queueSize = 0;
+		for (int slot = 0; slot < keys.length; slot++) {
+			if (generations[slot] == generation) {
+				if (types[slot] == SUSTAINS_LEAVES) {
+					distances[slot] = 0;
+					enqueue(slot);
+				} else {
+					distances[slot] = UNREACHED;
+				}
+			}
+		}
+		for (int head = 0; head < queueSize; head++) {
+			int slot = queue[head];
+			int distance = distances[slot];
+			if (distance >= MAX_DISTANCE) {
+				continue;
+			}
+			int x = xs[slot];
+			int y = ys[slot];
+			int z = zs[slot];
+			propagateNeighbour(x - 1, y, z, distance);
+			propagateNeighbour(x + 1, y, z, distance);
+			propagateNeighbour(x, y - 1, z, distance);
+			propagateNeighbour(x, y + 1, z, distance);
+			propagateNeighbour(x, y, z - 1, distance);
+			propagateNeighbour(x, y, z + 1, distance);
+		}
+
+		for (int i = 0; i < count; i++) {
+			BlockPos pos = leaves[i];
+			int slot = find(pos.getX(), pos.getY(), pos.getZ());
+			results[i] = slot >= 0 && distances[slot] <= MAX_DISTANCE;
+		}
+	}
+
+	private void exploreNeighbour(World world, int x, int y, int z, int depth) {
+		int slot = find(x, y, z);
+		if (slot < 0) {
+			slot = visit(world, x, y, z);
+			if (types[slot] == IS_LEAVES) {
+				distances[slot] = (byte) (depth + 1);
+				enqueue(slot);
+			}
+		}
+	}
+
+	private void propagateNeighbour(int x, int y, int z, int distance) {
+		int slot = find(x, y, z);
+		if (slot >= 0 && types[slot] == IS_LEAVES && distances[slot] == UNREACHED) {
+			distances[slot] = (byte) (distance + 1);
+			enqueue(slot);
+		}
+	}
+
+	private void enqueue(int slot) {
+		if (queueSize == queue.length) {
+			queue = Arrays.copyOf(queue, queue.length * 2);
+		}
+		queue[queueSize++] = slot;
+	}
+
+	/**
+	 * Reads the block at the position, if it was not read before during this batch.
+	 *
+	 * @return the slot of the position
+	 */
+	private int visit(World world, int x, int y, int z) {
+		int slot = find(x, y, z);
+		if (slot >= 0) {
+			return slot;
+		}
+
+		BlockPos pos = mutablePos.setPos(x, y, z);
+		IBlockState blockState = world.getBlockState(pos);
+		Block block = blockState.getBlock();
+		byte type;
+		if (block.canSustainLeaves(blockState, world, pos)) {
+			type = SUSTAINS_LEAVES;
+		} else if (block.isLeaves(blockState, world, pos)) {
+			type = IS_LEAVES;
+		} else {
+			type = NOT_SUSTAINS_LEAVES;
+		}
+
+		if ((size + 1) * 2 > keys.length) {
+			rehash(keys.length * 2);
+		}
+		slot = insert(pos.toLong(), x, y, z);
+		types[slot] = type;
+		distances[slot] = UNREACHED;
+		return slot;
+	}
+
+	private int find(int x, int y, int z) {
+		long key = mutablePos.setPos(x, y, z).toLong();
+		int mask = keys.length - 1;
+		int slot = hash(key) & mask;
+		while (generations[slot] == generation) {
+			if (keys[slot] == key) {
+				return slot;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return -1;
+	}
+
+	private int insert(long key, int x, int y, int z) {
+		int mask = keys.length - 1;
+		int slot = hash(key) & mask;
+		while (generations[slot] == generation) {
+			slot = (slot + 1) & mask;
+		}
+		generations[slot] = generation;
+		keys[slot] = key;
+		xs[slot] = x;
+		ys[slot] = y;
+		zs[slot] = z;
+		size++;
+		return slot;
+	}
+
+	/**
+	 * Grows the table. Only happens during the exploration, when the queue contains slots of the old table.
+	 */
+	private void rehash(int capacity) {
+		long[] oldKeys = keys;
+		int[] oldGenerations = generations;
+		int[] oldXs = xs;
+		int[] oldYs = ys;
+		int[] oldZs = zs;
+		byte[] oldTypes = types;
+		byte[] oldDistances = distances;
+		int oldGeneration = generation;
+
+		int[] newSlots = new int[oldKeys.length];
+		allocate(capacity);
+		for (int oldSlot = 0; oldSlot < oldKeys.length; oldSlot++) {
+			if (oldGenerations[oldSlot] == oldGeneration) {
+				int slot = insert(oldKeys[oldSlot], oldXs[oldSlot], oldYs[oldSlot], oldZs[oldSlot]);
+				types[slot] = oldTypes[oldSlot];
+				distances[slot] = oldDistances[oldSlot];
+				newSlots[oldSlot] = slot;
+			}
+		}
+		for (int i = 0; i < queueSize; i++) {
+			queue[i] = newSlots[queue[i]];
+		}
+	}
+
+	private void allocate(int capacity) {
+		keys = new long[capacity];
+		generations = new int[capacity];
+		xs = new int[capacity];
+		ys = new int[capacity];
+		zs = new int[capacity];
+		types = new byte[capacity];
+		distances = new byte[capacity];
+		generation = 1;
+		size = 0;
+	}
+
+	private void clear() {
+		generation++;
+		size = 0;
+		queueSize = 0;
+		if (generation == Integer.MAX_VALUE) {
+			Arrays.fill(generations, 0);
+			generation = 1;
+		}
+	}
+
+	private static int hash(long key) {
+		long hash = key * 0x9E3779B97F4A7C15L;
+		return (int) (hash ^ (hash >>> 32));
+	}
+}
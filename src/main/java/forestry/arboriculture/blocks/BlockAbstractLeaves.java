@@ -48,7 +48,7 @@ public abstract class BlockAbstractLeaves extends BlockLeaves implements IItemMo
 
 	@Override
 	public void updateTick(World world, BlockPos pos, IBlockState state, Random rand) {
-		LeafDecayHelper.leafDecay(this, world, pos);
+		LeafDecayHelper.leafDecay(world, pos);
 	}
 
 	public abstract int getMetaFromState(IBlockState state);
@@ -2,13 +2,11 @@ package forestry.arboriculture.blocks;
 
 import java.util.Random;
 
-import forestry.api.arboriculture.ICharcoalPileWall;
-import forestry.api.arboriculture.TreeManager;
 import forestry.api.core.IItemModelRegister;
 import forestry.api.core.IModelManager;
 import forestry.api.core.IStateMapperRegister;
 import forestry.api.core.Tabs;
-import forestry.arboriculture.PluginArboriculture;
+import forestry.arboriculture.charcoal.CharcoalPile;
 import net.minecraft.block.Block;
 import net.minecraft.block.SoundType;
 import net.minecraft.block.material.Material;
@@ -80,53 +78,58 @@ public class BlockWoodPile extends Block implements IItemModelRegister, IStateMa
 		return false;
 	}
 	
-    @Override
-	public void onBlockAdded(World world, BlockPos pos, IBlockState state){
-    	if(!state.getValue(IS_ACTIVE)){
-	    	for(EnumFacing facing : EnumFacing.VALUES){
-	    		IBlockState facingState = world.getBlockState(pos.offset(facing));
-	    		if(facingState.getBlock() == this && facingState.getValue(IS_ACTIVE)){
-	    			world.setBlockState(pos, state.withProperty(IS_ACTIVE, true));
-	    			break;
-	    		}
-	    	}
-    	}
-    	world.scheduleUpdate(pos, this, this.tickRate(world) + world.rand.nextInt(RANDOM_TICK));
-    }
-	
+	@Override
+	public void onBlockAdded(World world, BlockPos pos, IBlockState state) {
+		if (state.getValue(IS_ACTIVE)) {
+			CharcoalPile.ignite(world, pos);
+			return;
+		}
+		for (EnumFacing facing : EnumFacing.VALUES) {
+			IBlockState facingState = world.getBlockState(pos.offset(facing));
+			if (facingState.getBlock() == this && facingState.getValue(IS_ACTIVE)) {
+				// joins the burning pile next to it
+				CharcoalPile.ignite(world, pos);
+				break;
+			}
+		}
+	}
+
+	@Override
+	public void breakBlock(World world, BlockPos pos, IBlockState state) {
+		CharcoalPile.onWoodPileRemoved(world, pos);
+		super.breakBlock(world, pos, state);
+	}
+
 	@Override
 	public void neighborChanged(IBlockState state, World world, BlockPos pos, Block blockIn, BlockPos fromPos) {
+		if (state.getValue(IS_ACTIVE)) {
+			return;
+		}
 		IBlockState fromState = world.getBlockState(fromPos);
-		boolean isActive = state.getValue(IS_ACTIVE);
-		if(fromState.getBlock() == this){
-			if(fromState.getValue(IS_ACTIVE) && !isActive){
-				world.setBlockState(pos, state.withProperty(IS_ACTIVE, true));
-				world.scheduleUpdate(pos, this, this.tickRate(world) + world.rand.nextInt(RANDOM_TICK));
-			}
-		} else if(fromState.getBlock() == Blocks.FIRE) {
-			if(!isActive){
-				world.setBlockState(pos, state.withProperty(IS_ACTIVE, true));
-				world.scheduleUpdate(pos, this, this.tickRate(world) + world.rand.nextInt(RANDOM_TICK));
-			}
+		if (fromState.getBlock() == this && fromState.getValue(IS_ACTIVE) || fromState.getBlock() == Blocks.FIRE) {
+			CharcoalPile.ignite(world, pos);
 		}
 	}
-	
+
+	@Override
+	public void randomTick(World world, BlockPos pos, IBlockState state, Random random) {
+		// lit wood piles that lost their pile, like after a restart, collect it again
+		if (state.getValue(IS_ACTIVE) && CharcoalPile.getPile(world, pos) == null) {
+			CharcoalPile.ignite(world, pos);
+		}
+	}
+
 	@Override
 	public void updateTick(World world, BlockPos pos, IBlockState state, Random rand) {
-		if(state.getValue(IS_ACTIVE)){
-			for(EnumFacing facing : EnumFacing.VALUES){
-				if(world.isAirBlock(pos.offset(facing))){
-					world.setBlockState(pos.offset(facing), Blocks.FIRE.getDefaultState());
-				}
-				if(rand.nextInt(150) == 0){
-					if(state.getValue(AGE) < 7){
-						world.setBlockState(pos, state.withProperty(AGE, state.getValue(AGE) + 1));
-					}else{
-						world.setBlockState(pos, PluginArboriculture.getBlocks().charcoal.getDefaultState().withProperty(BlockCharcoal.AMOUNT, Math.round(getCharcoalAmount(world, pos))));
-					}
-				}
-				world.scheduleUpdate(pos, this, this.tickRate(world) + world.rand.nextInt(RANDOM_TICK));
-			}
+		if (!state.getValue(IS_ACTIVE)) {
+			return;
+		}
+		CharcoalPile pile = CharcoalPile.getPile(world, pos);
+		if (pile == null) {
+			CharcoalPile.ignite(world, pos);
+		} else if (pile.isLeader(pos)) {
+			// the leader burns the whole pile, the updates of the other wood piles are left over from older versions
+			pile.burn(world, rand);
 		}
 	}
 	
@@ -179,39 +182,6 @@ public class BlockWoodPile extends Block implements IItemModelRegister, IStateMa
 		manager.registerItemModel(item, 0);
 	}
 
-	public float getCharcoalAmount(World world, BlockPos pos){
-		float charcoalAmount = 0F;
-		for(EnumFacing facing : EnumFacing.VALUES){
-			charcoalAmount += getCharcoalFaceAmount(world, pos, facing);
-		}
-		return charcoalAmount / 6;
-	}
-	
-	private int getCharcoalFaceAmount(World world, BlockPos pos, EnumFacing facing){
-		int faceAmount = 0;
-		for(int i = 0;i < 18;i++){
-			BlockPos testPos = pos.offset(facing, i);
-			IBlockState state = world.getBlockState(testPos);
-			if(state.getBlock() == Blocks.AIR){
-				faceAmount = 0;
-			}else if(state.getBlock() == this || state.getBlock() == PluginArboriculture.getBlocks().charcoal){
-				if(i == 17){
-					return getCharcoalFaceAmount(world, testPos, facing);
-				}
-				continue;
-			}else{
-				for(ICharcoalPileWall wall : TreeManager.pileWalls){
-					if(wall.matches(state)){
-						faceAmount = wall.getCharcoalAmount();
-						break;
-					}
-				}
-			}
-			break;
-		}
-		return Math.max(1, faceAmount);
-	}
-	
 	@SideOnly(Side.CLIENT)
 	@Override
 	public void registerStateMapper() {
@@ -0,0 +1,296 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.arboriculture.charcoal;
+
+import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import forestry.api.arboriculture.ICharcoalPileWall;
+import forestry.api.arboriculture.TreeManager;
+import forestry.arboriculture.PluginArboriculture;
+import forestry.arboriculture.blocks.BlockCharcoal;
+import forestry.arboriculture.blocks.BlockRegistryArboriculture;
+import forestry.arboriculture.blocks.BlockWoodPile;
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+/**
+ * The connected wood piles of a charcoal kiln, which burn to charcoal together.
+ * <p>
+ * The wood piles are collected once when the pile is lit. The charcoal amount of every wood pile is taken from the walls
+ * at the ends of its six rows through the pile, and every row is followed only once for all wood piles in it.
+ * Only the leader of the pile has a scheduled update, which burns all wood piles of the pile.
+ * <p>
+ * Piles are not saved. A lit wood pile that has no pile, like after a restart, collects its pile again on its next update.
+ */
+public class CharcoalPile {
+	/* The chance of a burning wood pile to age on an update of the pile, it used to roll 1 in 150 for every side. */
+	private static final int AGE_CHANCE = 6;
+	private static final int AGE_CHANCE_BOUND = 150;
+
+	private static final Map<World, Map<BlockPos, CharcoalPile>> piles = new HashMap<>();
+
+	/* The charcoal amount of every wood pile of the pile that did not burn to charcoal yet. */
+	private final Map<BlockPos, Integer> charcoalAmounts;
+	private BlockPos leader;
+
+	private CharcoalPile(BlockPos leader, Map<BlockPos, Integer> charcoalAmounts) {
+		this.leader = leader;
+		this.charcoalAmounts = charcoalAmounts;
+	}
+
+	@Nullable
+	public static CharcoalPile getPile(World world, BlockPos pos) {
+		Map<BlockPos, CharcoalPile> worldPiles = piles.get(world);
+		return worldPiles == null ? null : worldPiles.get(pos);
+	}
+
+	/**
+	 * Collects the pile of the wood pile, lights all of its wood piles and schedules the update of the pile.
+	 * Piles that are connected by the wood pile are merged into one.
+	 */
+	public static void ignite(World world, BlockPos pos) {
+		if (world.isRemote) {
+			return;
+		}
+		BlockWoodPile woodPile = PluginArboriculture.getBlocks().woodPile;
+		Map<BlockPos, CharcoalPile> worldPiles = piles.computeIfAbsent(world, k -> new HashMap<>());
+		Set<BlockPos> woodPiles = collectWoodPiles(world, pos.toImmutable(), woodPile);
+		for (BlockPos woodPilePos : woodPiles) {
+			CharcoalPile oldPile = worldPiles.get(woodPilePos);
+			if (oldPile != null) {
+				oldPile.dissolve(worldPiles);
+			}
+		}
+
+		CharcoalPile pile = new CharcoalPile(pos.toImmutable(), getCharcoalAmounts(world, woodPiles));
+		for (BlockPos woodPilePos : woodPiles) {
+			worldPiles.put(woodPilePos, pile);
+			IBlockState state = world.getBlockState(woodPilePos);
+			if (!state.getValue(BlockWoodPile.IS_ACTIVE)) {
+				// the pile is lit as a whole, so the wood piles don't have to light each other
+				world.setBlockState(woodPilePos, state.withProperty(BlockWoodPile.IS_ACTIVE, true), 2);
+			}
+		}
+		pile.scheduleUpdate(world, woodPile);
+	}
+
+	/**
+	 * Called when a wood pile is removed from the world, the rest of its pile is collected again.
+	 */
+	public static void onWoodPileRemoved(World world, BlockPos pos) {
+		Map<BlockPos, CharcoalPile> worldPiles = piles.get(world);
+		if (worldPiles == null) {
+			return;
+		}
+		CharcoalPile pile = worldPiles.get(pos);
+		if (pile == null) {
+			return;
+		}
+		pile.dissolve(worldPiles);
+
+		// the removed wood pile may have split the pile
+		BlockWoodPile woodPile = PluginArboriculture.getBlocks().woodPile;
+		for (EnumFacing facing : EnumFacing.VALUES) {
+			BlockPos posFacing = pos.offset(facing);
+			if (world.isBlockLoaded(posFacing) && world.getBlockState(posFacing).getBlock() == woodPile && !worldPiles.containsKey(posFacing)) {
+				ignite(world, posFacing);
+			}
+		}
+	}
+
+	public static void onWorldUnload(World world) {
+		piles.remove(world);
+	}
+
+	public boolean isLeader(BlockPos pos) {
+		return leader.equals(pos);
+	}
+
+	/**
+	 * Burns all wood piles of the pile once, sets the fire around them and lets them age or burn to charcoal.
+	 */
+	public void burn(World world, Random rand) {
+		BlockRegistryArboriculture blocks = PluginArboriculture.getBlocks();
+		Map<BlockPos, CharcoalPile> worldPiles = piles.computeIfAbsent(world, k -> new HashMap<>());
+		Map<BlockPos, IBlockState> changedStates = new LinkedHashMap<>();
+
+		Iterator<Map.Entry<BlockPos, Integer>> iterator = charcoalAmounts.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<BlockPos, Integer> entry = iterator.next();
+			BlockPos pos = entry.getKey();
+			if (!world.isBlockLoaded(pos)) {
+				continue;
+			}
+			IBlockState state = world.getBlockState(pos);
+			if (state.getBlock() != blocks.woodPile) {
+				iterator.remove();
+				worldPiles.remove(pos);
+				continue;
+			}
+
+			for (EnumFacing facing : EnumFacing.VALUES) {
+				BlockPos posFacing = pos.offset(facing);
+				if (!charcoalAmounts.containsKey(posFacing) && world.isAirBlock(posFacing)) {
+					world.setBlockState(posFacing, Blocks.FIRE.getDefaultState());
+				}
+			}
+
+			if (rand.nextInt(AGE_CHANCE_BOUND) < AGE_CHANCE) {
+				int age = state.getValue(BlockWoodPile.AGE);
+				if (age < 7) {
+					changedStates.put(pos, state.withProperty(BlockWoodPile.AGE, age + 1));
+				} else {
+					// the wood pile leaves the pile before it is replaced, so its removal does not split the pile
+					iterator.remove();
+					worldPiles.remove(pos);
+					changedStates.put(pos, blocks.charcoal.getDefaultState().withProperty(BlockCharcoal.AMOUNT, entry.getValue()));
+				}
+			}
+		}
+
+		// write the changed wood piles together after the pile was burned, aging does not concern the neighbours
+		for (Map.Entry<BlockPos, IBlockState> entry : changedStates.entrySet()) {
+			IBlockState state = entry.getValue();
+			world.setBlockState(entry.getKey(), state, state.getBlock() == blocks.woodPile ? 2 : 3);
+		}
+
+		if (charcoalAmounts.isEmpty()) {
+			return;
+		}
+		if (!charcoalAmounts.containsKey(leader)) {
+			// updates of unloaded positions are dropped, so the new leader has to be loaded
+			BlockPos newLeader = null;
+			for (BlockPos pos : charcoalAmounts.keySet()) {
+				if (world.isBlockLoaded(pos)) {
+					newLeader = pos;
+					break;
+				}
+			}
+			if (newLeader == null) {
+				// the wood piles collect their pile again on their next tick after they were loaded
+				dissolve(worldPiles);
+				return;
+			}
+			leader = newLeader;
+		}
+		scheduleUpdate(world, blocks.woodPile);
+	}
+
+	private void scheduleUpdate(World world, BlockWoodPile woodPile) {
+		world.scheduleUpdate(leader, woodPile, woodPile.tickRate(world) + world.rand.nextInt(BlockWoodPile.RANDOM_TICK));
+	}
+
+	private void dissolve(Map<BlockPos, CharcoalPile> worldPiles) {
+		for (BlockPos pos : charcoalAmounts.keySet()) {
+			worldPiles.remove(pos, this);
+		}
+		charcoalAmounts.clear();
+	}
+
+	private static Set<BlockPos> collectWoodPiles(World world, BlockPos start, Block woodPile) {
+		Set<BlockPos> woodPiles = new LinkedHashSet<>();
+		ArrayDeque<BlockPos> posToCheck = new ArrayDeque<>();
+		woodPiles.add(start);
+		posToCheck.add(start);
+		while (!posToCheck.isEmpty()) {
+			BlockPos pos = posToCheck.poll();
+			for (EnumFacing facing : EnumFacing.VALUES) {
+				BlockPos posFacing = pos.offset(facing);
+				if (!woodPiles.contains(posFacing) && world.isBlockLoaded(posFacing) && world.getBlockState(posFacing).getBlock() == woodPile) {
+					woodPiles.add(posFacing);
+					posToCheck.add(posFacing);
+				}
+			}
+		}
+		return woodPiles;
+	}
+
+	/**
+	 * The charcoal amount of a wood pile is the average of the walls at the ends of its six rows through the pile.
+	 * A row shares its wall with every wood pile and charcoal in it, so every row is only followed once.
+	 */
+	private static Map<BlockPos, Integer> getCharcoalAmounts(World world, Set<BlockPos> woodPiles) {
+		Map<BlockPos, Integer> totalAmounts = new LinkedHashMap<>();
+		for (BlockPos pos : woodPiles) {
+			totalAmounts.put(pos, 0);
+		}
+
+		Map<BlockPos, Integer> faceAmounts = new HashMap<>();
+		List<BlockPos> row = new ArrayList<>();
+		for (EnumFacing facing : EnumFacing.VALUES) {
+			faceAmounts.clear();
+			for (BlockPos pos : woodPiles) {
+				if (faceAmounts.containsKey(pos)) {
+					continue;
+				}
+				row.clear();
+				BlockPos rowPos = pos;
+				Integer faceAmount;
+				while (true) {
+					row.add(rowPos);
+					rowPos = rowPos.offset(facing);
+					faceAmount = faceAmounts.get(rowPos);
+					if (faceAmount != null) {
+						break;
+					}
+					IBlockState state = world.getBlockState(rowPos);
+					if (!isPileBlock(state.getBlock())) {
+						faceAmount = getWallAmount(state);
+						break;
+					}
+				}
+				for (BlockPos rowBlockPos : row) {
+					faceAmounts.put(rowBlockPos, faceAmount);
+				}
+			}
+			for (Map.Entry<BlockPos, Integer> entry : totalAmounts.entrySet()) {
+				entry.setValue(entry.getValue() + faceAmounts.get(entry.getKey()));
+			}
+		}
+
+		for (Map.Entry<BlockPos, Integer> entry : totalAmounts.entrySet()) {
+			entry.setValue(Math.round(entry.getValue() / 6F));
+		}
+		return totalAmounts;
+	}
+
+	private static boolean isPileBlock(Block block) {
+		BlockRegistryArboriculture blocks = PluginArboriculture.getBlocks();
+		return block == blocks.woodPile || block == blocks.charcoal;
+	}
+
+	private static int getWallAmount(IBlockState state) {
+		int amount = 0;
+		if (state.getBlock() != Blocks.AIR) {
+			for (ICharcoalPileWall wall : TreeManager.pileWalls) {
+				if (wall.matches(state)) {
+					amount = wall.getCharcoalAmount();
+					break;
+				}
+			}
+		}
+		return Math.max(1, amount);
+	}
+}
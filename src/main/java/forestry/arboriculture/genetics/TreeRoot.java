@@ -49,6 +49,7 @@ import forestry.arboriculture.blocks.BlockSapling;
 import forestry.arboriculture.items.ItemRegistryArboriculture;
 import forestry.arboriculture.tiles.TileFruitPod;
 import forestry.arboriculture.tiles.TileSapling;
+import forestry.core.genetics.GenomeCache;
 import forestry.core.genetics.SpeciesRoot;
 import forestry.core.network.packets.PacketFXSignal;
 import forestry.core.tiles.TileUtil;
@@ -74,6 +75,7 @@ public class TreeRoot extends SpeciesRoot implements ITreeRoot {
 	@Nullable
 	private static ITreekeepingMode activeTreekeepingMode;
 	public static final List<ITree> treeTemplates = new ArrayList<>();
+	private static final GenomeCache<ITreeGenome> genomeCache = new GenomeCache<>();
 
 	private final List<ITreekeepingMode> treekeepingModes = new ArrayList<>();
 
@@ -275,6 +277,24 @@ public class TreeRoot extends SpeciesRoot implements ITreeRoot {
 		return new TreeGenome(templateAsChromosomes(templateActive, templateInactive));
 	}
 
+	/**
+	 * @return the genome of the saved genome, shared with all other trees that have the same genome
+	 */
+	public static ITreeGenome getCachedGenome(NBTTagCompound genomeNbt) {
+		return genomeCache.getGenome(genomeNbt, TreeGenome::new);
+	}
+
+	/**
+	 * @return the genome of the default template of the species, shared with all other trees of the template
+	 */
+	public static ITreeGenome getCachedTemplateGenome(String speciesUID) {
+		return genomeCache.getTemplateGenome(speciesUID, uid -> {
+			IAllele[] template = TreeManager.treeRoot.getTemplate(uid);
+			Preconditions.checkArgument(template != null, "There is no tree template for speciesUID %s", uid);
+			return TreeManager.treeRoot.templateAsGenome(template);
+		});
+	}
+
 	@Override
 	public ITree templateAsIndividual(IAllele[] template) {
 		return new Tree(templateAsGenome(template));
@@ -288,19 +308,7 @@ public class TreeRoot extends SpeciesRoot implements ITreeRoot {
 	/* BREEDING TRACKER */
 	@Override
 	public IArboristTracker getBreedingTracker(World world, @Nullable GameProfile player) {
-		String filename = "ArboristTracker." + (player == null ? "common" : player.getId());
-		ArboristTracker tracker = (ArboristTracker) world.loadData(ArboristTracker.class, filename);
-
-		// Create a tracker if there is none yet.
-		if (tracker == null) {
-			tracker = new ArboristTracker(filename);
-			world.setData(filename, tracker);
-		}
-
-		tracker.setUsername(player);
-		tracker.setWorld(world);
-
-		return tracker;
+		return getBreedingTracker(world, player, "ArboristTracker.", ArboristTracker.class, ArboristTracker::new);
 	}
 
 	/* BREEDING MODES */
@@ -374,7 +382,9 @@ public class TreeRoot extends SpeciesRoot implements ITreeRoot {
 	@Override
 	public List<ITreeMutation> getMutations(boolean shuffle) {
 		if (shuffle) {
-			Collections.shuffle(treeMutations);
+			List<ITreeMutation> shuffled = new ArrayList<>(treeMutations);
+			Collections.shuffle(shuffled);
+			return shuffled;
 		}
 		return treeMutations;
 	}
@@ -392,6 +402,7 @@ public class TreeRoot extends SpeciesRoot implements ITreeRoot {
 		}
 
 		treeMutations.add((ITreeMutation) mutation);
+		invalidateMutationIndex();
 	}
 
 	/* ILEAFTICKHANDLER */
@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.arboriculture.tiles;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.world.World;
+
+/**
+ * Ripening that grows by its expected value on random ticks, instead of rolling a chance on every random tick.
+ * <p>
+ * Every random tick of the block adds the ripening that the random ticks since the last one would have caused on average.
+ * Random ticks only reach blocks near players, a gap that is much longer than the average gap between random ticks
+ * is taken as time without random ticks and only counts up to {@link #MAX_GAP_FACTOR} average gaps.
+ * The ripening has to be set again whenever it is changed or the chance to ripen changes.
+ */
+final class RipeningTimer {
+	/* Every random tick of a chunk section picks one of its blocks */
+	private static final int BLOCKS_PER_SECTION = 16 * 16 * 16;
+	/* The chance of a longer gap between two random ticks of a block is e^-8 */
+	private static final int MAX_GAP_FACTOR = 8;
+
+	private double ripening;
+	private float chance;
+	private long lastTickTime = -1;
+
+	public int get() {
+		return (int) ripening;
+	}
+
+	/**
+	 * @param chancePerRandomTick the chance to ripen by one on every random tick of the block
+	 */
+	public void set(@Nullable World world, int ripening, float chancePerRandomTick) {
+		this.ripening = ripening;
+		this.chance = Math.min(chancePerRandomTick, 1f);
+		this.lastTickTime = world == null ? -1 : world.getTotalWorldTime();
+	}
+
+	/**
+	 * Adds the expected ripening since the last random tick of the block.
+	 */
+	public void onRandomTick(World world, int maxRipening) {
+		long time = world.getTotalWorldTime();
+		long elapsedTime = lastTickTime < 0 ? 0 : time - lastTickTime;
+		lastTickTime = time;
+		int randomTickSpeed = world.getGameRules().getInt("randomTickSpeed");
+		if (chance <= 0 || randomTickSpeed <= 0 || ripening >= maxRipening) {
+			return;
+		}
+		double randomTicks = Math.min((double) elapsedTime * randomTickSpeed / BLOCKS_PER_SECTION, MAX_GAP_FACTOR);
+		ripening = Math.min(maxRipening, ripening + randomTicks * chance);
+	}
+}
@@ -48,7 +48,7 @@ public class TileFruitPod extends TileEntity implements IFruitBearer, IStreamabl
 
 	private ITreeGenome genome = defaultGenome;
 	private IAlleleFruit allele = defaultAllele;
-	private short maturity;
+	private final RipeningTimer maturity = new RipeningTimer();
 	private float sappiness;
 
 	public TileFruitPod() {
@@ -59,6 +59,7 @@ public class TileFruitPod extends TileEntity implements IFruitBearer, IStreamabl
 		this.genome = genome;
 		this.allele = allele;
 		this.sappiness = sappiness;
+		setMaturity(getMaturity());
 		markDirty();
 	}
 
@@ -74,32 +75,52 @@ public class TileFruitPod extends TileEntity implements IFruitBearer, IStreamabl
 			allele = defaultAllele;
 		}
 
-		maturity = nbttagcompound.getShort("MT");
 		sappiness = nbttagcompound.getFloat("SP");
+		setMaturity(nbttagcompound.getShort("MT"));
+	}
+
+	@Override
+	public void onLoad() {
+		super.onLoad();
+		// the time the pod was not loaded does not count
+		setMaturity(getMaturity());
 	}
 
 	@Override
 	public NBTTagCompound writeToNBT(NBTTagCompound nbttagcompound) {
 		nbttagcompound = super.writeToNBT(nbttagcompound);
 		nbttagcompound.setString("UID", allele.getUID());
-		nbttagcompound.setShort("MT", maturity);
+		nbttagcompound.setShort("MT", getMaturity());
 		nbttagcompound.setFloat("SP", sappiness);
 		return nbttagcompound;
 	}
 
 	/* UPDATING */
 	public void onBlockTick(World world, BlockPos pos, IBlockState state, Random rand) {
-		if (canMature() && rand.nextFloat() <= sappiness) {
-			addRipeness(0.5f);
+		if (canMature()) {
+			maturity.onRandomTick(world, MAX_MATURITY);
+			updateAge();
 		}
 	}
 
 	public boolean canMature() {
-		return maturity < MAX_MATURITY;
+		return getMaturity() < MAX_MATURITY;
 	}
 
 	public short getMaturity() {
-		return maturity;
+		return (short) maturity.get();
+	}
+
+	private void setMaturity(int maturity) {
+		this.maturity.set(world, maturity, sappiness);
+	}
+
+	private void updateAge() {
+		IBlockState state = world.getBlockState(getPos());
+		int age = getMaturity();
+		if (age > state.getValue(BlockCocoa.AGE)) {
+			world.setBlockState(getPos(), state.withProperty(BlockCocoa.AGE, age));
+		}
 	}
 
 	public ItemStack getPickBlock() {
@@ -119,7 +140,7 @@ public class TileFruitPod extends TileEntity implements IFruitBearer, IStreamabl
 	}
 
 	public NonNullList<ItemStack> getDrops() {
-		return allele.getProvider().getFruits(genome, world, getPos(), maturity);
+		return allele.getProvider().getFruits(genome, world, getPos(), getMaturity());
 	}
 
 	/* NETWORK */
@@ -164,7 +185,7 @@ public class TileFruitPod extends TileEntity implements IFruitBearer, IStreamabl
 	@Override
 	public NonNullList<ItemStack> pickFruit(ItemStack tool) {
 		NonNullList<ItemStack> fruits = getDrops();
-		maturity = 0;
+		setMaturity(0);
 
 		IBlockState oldState = world.getBlockState(getPos());
 		IBlockState newState = oldState.withProperty(BlockCocoa.AGE, 0);
@@ -175,23 +196,14 @@ public class TileFruitPod extends TileEntity implements IFruitBearer, IStreamabl
 
 	@Override
 	public float getRipeness() {
-		return (float) maturity / MAX_MATURITY;
+		return (float) getMaturity() / MAX_MATURITY;
 	}
 
 	@Override
 	public void addRipeness(float add) {
-		int previousAge = (int) Math.floor(maturity);
-
-		maturity += MAX_MATURITY * add;
-		if (maturity > MAX_MATURITY) {
-			maturity = MAX_MATURITY;
-		}
-
-		int age = (int) Math.floor(maturity);
-		if (age - previousAge > 0) {
-			IBlockState state = world.getBlockState(getPos()).withProperty(BlockCocoa.AGE, age);
-			world.setBlockState(getPos(), state);
-		}
+		int maturity = (int) (getMaturity() + MAX_MATURITY * add);
+		setMaturity(Math.min(maturity, MAX_MATURITY));
+		updateAge();
 	}
 
 	@Override
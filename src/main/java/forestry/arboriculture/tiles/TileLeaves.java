@@ -76,8 +76,10 @@ public class TileLeaves extends TileTreeContainer implements IPollinatable, IFru
 
 	private boolean isFruitLeaf;
 	private boolean isPollinatedState;
-	private int ripeningTime;
+	private final RipeningTimer ripeningTime = new RipeningTimer();
 	private short ripeningPeriod = Short.MAX_VALUE - 1;
+	/* The ripening stage of the fruit colour that was last sent to the clients */
+	private int ripeningStage = -1;
 
 	private int maturationTime;
 	private int damage;
@@ -96,7 +98,7 @@ public class TileLeaves extends TileTreeContainer implements IPollinatable, IFru
 	public void readFromNBT(NBTTagCompound nbttagcompound) {
 		super.readFromNBT(nbttagcompound);
 
-		ripeningTime = nbttagcompound.getShort("RT");
+		setRipeningTime(nbttagcompound.getShort("RT"));
 		damage = nbttagcompound.getInteger("ENC");
 
 		if (nbttagcompound.hasKey("CATER")) {
@@ -110,6 +112,12 @@ public class TileLeaves extends TileTreeContainer implements IPollinatable, IFru
 		}
 	}
 
+	@Override
+	public void onLoad() {
+		super.onLoad();
+		// the time the leaves were not loaded does not count
+		setRipeningTime(getRipeningTime());
+	}
 
 	@Override
 	public NBTTagCompound writeToNBT(NBTTagCompound nbtTagCompound) {
@@ -162,19 +170,18 @@ public class TileLeaves extends TileTreeContainer implements IPollinatable, IFru
 			damage--;
 		}
 
-		if (hasFruit() && getRipeningTime() < ripeningPeriod) {
-			ITreekeepingMode treekeepingMode = TreeManager.treeRoot.getTreekeepingMode(world);
-			float sappinessModifier = treekeepingMode.getSappinessModifier(genome, 1f);
-			float sappiness = genome.getSappiness() * sappinessModifier;
-
-			if (rand.nextFloat() < sappiness) {
-				ripeningTime++;
-				sendNetworkUpdateRipening();
-			}
+		if (hasFruit()) {
+			ripeningTime.onRandomTick(world, ripeningPeriod);
+			sendNetworkUpdateRipening();
 		}
 
 		if (caterpillar != null) {
+			int ripeningTime = getRipeningTime();
 			matureCaterpillar();
+			if (!hasFruit()) {
+				// destroyed leaves stop ripening
+				setRipeningTime(ripeningTime);
+			}
 		}
 
 		effectData = tree.doEffect(effectData, world, getPos());
@@ -218,6 +225,7 @@ public class TileLeaves extends TileTreeContainer implements IPollinatable, IFru
 			isFruitLeaf = false;
 			fruitSprite = null;
 		}
+		setRipeningTime(getRipeningTime());
 
 		markDirty();
 	}
@@ -287,7 +295,19 @@ public class TileLeaves extends TileTreeContainer implements IPollinatable, IFru
 	}
 
 	public int getRipeningTime() {
-		return ripeningTime;
+		return ripeningTime.get();
+	}
+
+	private void setRipeningTime(int time) {
+		float ripeningChance = 0;
+		ITree tree = getTree();
+		if (tree != null && world != null && !world.isRemote && hasFruit()) {
+			ITreeGenome genome = tree.getGenome();
+			ITreekeepingMode treekeepingMode = TreeManager.treeRoot.getTreekeepingMode(world);
+			float sappinessModifier = treekeepingMode.getSappinessModifier(genome, 1f);
+			ripeningChance = genome.getSappiness() * sappinessModifier;
+		}
+		ripeningTime.set(world, time, ripeningChance);
 	}
 
 	/* IPOLLINATABLE */
@@ -342,10 +362,16 @@ public class TileLeaves extends TileTreeContainer implements IPollinatable, IFru
 
 	/* NETWORK */
 	private void sendNetworkUpdate() {
-		NetworkUtil.sendNetworkPacket(new PacketTileStream(this), pos, world);
+		NetworkUtil.queueNetworkPacket(new PacketTileStream(this), pos, world);
 	}
 
 	private void sendNetworkUpdateRipening() {
+		int stage = getRipeningStage();
+		if (stage == ripeningStage) {
+			return;
+		}
+		ripeningStage = stage;
+
 		int newColourFruits = determineFruitColour();
 		if (newColourFruits == colourFruits) {
 			return;
@@ -353,9 +379,20 @@ public class TileLeaves extends TileTreeContainer implements IPollinatable, IFru
 		colourFruits = newColourFruits;
 
 		PacketRipeningUpdate ripeningUpdate = new PacketRipeningUpdate(this);
-		NetworkUtil.sendNetworkPacket(ripeningUpdate, pos, world);
+		NetworkUtil.queueNetworkPacket(ripeningUpdate, pos, world);
+	}
+
+	/**
+	 * The fruit colour is only sent to the clients when the ripening reaches the next of a few stages, the last stage is ripe.
+	 */
+	private int getRipeningStage() {
+		if (ripeningPeriod <= 0) {
+			return RIPENING_STAGES;
+		}
+		return Math.min(RIPENING_STAGES, getRipeningTime() * RIPENING_STAGES / ripeningPeriod);
 	}
 
+	private static final int RIPENING_STAGES = 8;
 	private static final short hasFruitFlag = 1;
 	private static final short isPollinatedFlag = 1 << 1;
 
@@ -438,7 +475,7 @@ public class TileLeaves extends TileTreeContainer implements IPollinatable, IFru
 		}
 
 		NonNullList<ItemStack> produceStacks = tree.produceStacks(world, getPos(), getRipeningTime());
-		ripeningTime = 0;
+		setRipeningTime(0);
 		sendNetworkUpdateRipening();
 		return produceStacks;
 	}
@@ -473,7 +510,7 @@ public class TileLeaves extends TileTreeContainer implements IPollinatable, IFru
 		if (getTree() == null || !isFruitLeaf || getRipeningTime() >= ripeningPeriod) {
 			return;
 		}
-		ripeningTime += ripeningPeriod * add;
+		setRipeningTime((int) (getRipeningTime() + ripeningPeriod * add));
 		sendNetworkUpdateRipening();
 	}
 
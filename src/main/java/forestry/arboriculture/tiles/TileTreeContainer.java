@@ -14,11 +14,10 @@ import javax.annotation.Nullable;
 import java.io.IOException;
 import java.util.Random;
 
-import com.google.common.base.Preconditions;
 import forestry.api.arboriculture.ITree;
 import forestry.api.arboriculture.TreeManager;
-import forestry.api.genetics.IAllele;
 import forestry.arboriculture.genetics.Tree;
+import forestry.arboriculture.genetics.TreeRoot;
 import forestry.core.network.IStreamable;
 import forestry.core.network.PacketBufferForestry;
 import forestry.core.owner.IOwnedTile;
@@ -54,6 +53,11 @@ public abstract class TileTreeContainer extends TileEntity implements IStreamabl
 
 		if (nbttagcompound.hasKey("ContainedTree")) {
 			containedTree = new Tree(nbttagcompound.getCompoundTag("ContainedTree"));
+		} else if (nbttagcompound.hasKey("ContainedTemplate")) {
+			String speciesUID = nbttagcompound.getString("ContainedTemplate");
+			if (TreeManager.treeRoot.getTemplate(speciesUID) != null) {
+				containedTree = new Tree(TreeRoot.getCachedTemplateGenome(speciesUID));
+			}
 		}
 		ownerHandler.readFromNBT(nbttagcompound);
 	}
@@ -63,9 +67,14 @@ public abstract class TileTreeContainer extends TileEntity implements IStreamabl
 		nbttagcompound = super.writeToNBT(nbttagcompound);
 
 		if (containedTree != null) {
-			NBTTagCompound subcompound = new NBTTagCompound();
-			containedTree.writeToNBT(subcompound);
-			nbttagcompound.setTag("ContainedTree", subcompound);
+			if (isTemplateTree(containedTree)) {
+				// Most trees are never bred, only save a reference to the shared template genome for them
+				nbttagcompound.setString("ContainedTemplate", containedTree.getIdent());
+			} else {
+				NBTTagCompound subcompound = new NBTTagCompound();
+				containedTree.writeToNBT(subcompound);
+				nbttagcompound.setTag("ContainedTree", subcompound);
+			}
 		}
 		ownerHandler.writeToNBT(nbttagcompound);
 
@@ -90,9 +99,11 @@ public abstract class TileTreeContainer extends TileEntity implements IStreamabl
 	}
 
 	private static ITree getTree(String speciesUID) {
-		IAllele[] treeTemplate = TreeManager.treeRoot.getTemplate(speciesUID);
-		Preconditions.checkArgument(treeTemplate != null, "There is no tree template for speciesUID %s", speciesUID);
-		return TreeManager.treeRoot.templateAsIndividual(treeTemplate);
+		return new Tree(TreeRoot.getCachedTemplateGenome(speciesUID));
+	}
+
+	private static boolean isTemplateTree(ITree tree) {
+		return !tree.isAnalyzed() && tree.getMate() == null && tree.getGenome().matchesTemplateGenome();
 	}
 
 	/* CLIENT INFORMATION */
@@ -13,11 +13,9 @@ package forestry.arboriculture.worldgen;
 import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
-import java.util.Set;
 
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.util.EnumFacing;
@@ -25,6 +23,7 @@ import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.Biome;
+import net.minecraft.world.chunk.Chunk;
 
 import net.minecraftforge.common.IPlantable;
 import net.minecraftforge.event.terraingen.DecorateBiomeEvent.Decorate;
@@ -44,7 +43,7 @@ import forestry.core.utils.BlockUtil;
 
 public class TreeDecorator {
 	private static final List<IAlleleTreeSpecies> SPECIES = new ArrayList<>();
-	private static final Map<ResourceLocation, Set<ITree>> biomeCache = new HashMap<>();
+	private static final Map<ResourceLocation, BiomeCache> biomeCache = new HashMap<>();
 	
 	@SubscribeEvent
 	public void decorateTrees(Decorate event) {
@@ -55,7 +54,7 @@ public class TreeDecorator {
 
 	public static void decorateTrees(World world, Random rand, int worldX, int worldZ) {
 		if (biomeCache.isEmpty()) {
-			generateBiomeCache(world, rand);
+			generateBiomeCache(world);
 		}
 		for (int tries = 0; tries < 4 + rand.nextInt(2); tries++) {
 			int x = worldX + rand.nextInt(16);
@@ -63,49 +62,72 @@ public class TreeDecorator {
 
 			BlockPos pos = new BlockPos(x, 0, z);
 			Biome biome = world.getBiome(pos);
-			
-			Set<ITree> trees = biomeCache.computeIfAbsent(biome.getRegistryName(), k -> new HashSet<>());
-			for (ITree tree : trees) {
+
+			BiomeCache cache = biomeCache.get(biome.getRegistryName());
+			if (cache == null || cache.validTrees.isEmpty()) {
+				continue;
+			}
+
+			BlockPos groundPos = null;
+			for (ITree tree : cache.validTrees) {
 				IAlleleTreeSpecies species = tree.getGenome().getPrimary();
-				if (species.getRarity()  >= rand.nextFloat()) {
-					pos = getValidPos(world, x, z, tree);
-	
-					if(pos == null){
-						continue;
+				if (species.getRarity() < rand.nextFloat()) {
+					continue;
+				}
+				if (groundPos == null) {
+					groundPos = getGroundPos(world, x, z);
+					if (groundPos == null) {
+						break;
 					}
-					
-					if (species.getGrowthProvider().canSpawn(tree, world, pos)) {
-						if (TreeGenHelper.generateTree(tree, world, pos)) {
-							return;
-						}
+				}
+
+				pos = getValidPos(world, groundPos, tree);
+				if(pos == null){
+					continue;
+				}
+
+				if (species.getGrowthProvider().canSpawn(tree, world, pos)) {
+					if (TreeGenHelper.generateTree(tree, world, pos)) {
+						return;
 					}
 				}
 			}
 		}
 	}
-	
+
+	/**
+	 * @return the highest block of the column that can't be replaced by a tree, read from the height map of the chunk,
+	 * or null if the chunk is not loaded
+	 */
 	@Nullable
-	private static BlockPos getValidPos(World world, int x, int z, ITree tree){
-		// get to the ground
-		final BlockPos topPos = world.getHeight(new BlockPos(x, 0, z));
-		if (topPos.getY() == 0) {
+	private static BlockPos getGroundPos(World world, int x, int z) {
+		// like World#getHeight, the chunk must not be loaded or generated for this
+		if (!world.isBlockLoaded(new BlockPos(x, 0, z))) {
+			return null;
+		}
+		Chunk chunk = world.getChunkFromChunkCoords(x >> 4, z >> 4);
+		int height = chunk.getHeightValue(x & 15, z & 15);
+		if (height <= 0) {
 			return null;
 		}
-		
-		final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos(topPos);
-		
-		IBlockState blockState = world.getBlockState(pos);
-		IBlockState downState = world.getBlockState(pos.down());
+
+		final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos(x, height, z);
+		IBlockState blockState = chunk.getBlockState(pos);
 		while (BlockUtil.canReplace(blockState, world, pos)) {
 			pos.move(EnumFacing.DOWN);
 			if (pos.getY() <= 0) {
 				return null;
 			}
-			blockState = world.getBlockState(pos);
-			downState = world.getBlockState(pos.down());
+			blockState = chunk.getBlockState(pos);
 		}
-		if(tree instanceof IPlantable && blockState.getBlock().canSustainPlant(blockState, world, pos, EnumFacing.UP, (IPlantable) tree)){
-			return pos.up();
+		return pos.toImmutable();
+	}
+	
+	@Nullable
+	private static BlockPos getValidPos(World world, BlockPos groundPos, ITree tree){
+		IBlockState blockState = world.getBlockState(groundPos);
+		if(tree instanceof IPlantable && blockState.getBlock().canSustainPlant(blockState, world, groundPos, EnumFacing.UP, (IPlantable) tree)){
+			return groundPos.up();
 		}
 		return null;
 	}
@@ -125,27 +147,32 @@ public class TreeDecorator {
 		return SPECIES;
 	}
 	
-	private static void generateBiomeCache(World world, Random rand){
+	private static void generateBiomeCache(World world){
+		Map<ResourceLocation, List<ITree>> validTrees = new HashMap<>();
 		for (IAlleleTreeSpecies species : getSpecies()) {
 			IAllele[] template = TreeManager.treeRoot.getTemplate(species);
 			ITreeGenome genome = TreeManager.treeRoot.templateAsGenome(template);
 			ITree tree = TreeManager.treeRoot.getTree(world, genome);
 			IGrowthProvider growthProvider = species.getGrowthProvider();
 			for (Biome biome : Biome.REGISTRY) {
-				Set<ITree> trees = biomeCache.computeIfAbsent(biome.getRegistryName(), k -> new HashSet<>());
+				List<ITree> trees = validTrees.computeIfAbsent(biome.getRegistryName(), k -> new ArrayList<>());
 				if (growthProvider.isBiomeValid(tree, biome)) {
 					trees.add(tree);
 				}
 			}
 		}
+		for (Map.Entry<ResourceLocation, List<ITree>> entry : validTrees.entrySet()) {
+			biomeCache.put(entry.getKey(), new BiomeCache(entry.getValue()));
+		}
 	}
 	
+	/**
+	 * The trees that can spawn in a biome, every tree rolls its own rarity.
+	 */
 	private static final class BiomeCache {
-		protected final Biome biome;
 		protected final List<ITree> validTrees;
-		
-		public BiomeCache(Biome biome, List<ITree> validTrees) {
-			this.biome = biome;
+
+		public BiomeCache(List<ITree> validTrees) {
 			this.validTrees = validTrees;
 		}
 	}
@@ -19,8 +19,11 @@ import forestry.api.genetics.IBreedingTracker;
 import forestry.api.genetics.ISpeciesRoot;
 import forestry.core.config.Constants;
 import forestry.core.errors.ErrorStateRegistry;
+import forestry.core.genetics.SpeciesRoot;
 import forestry.core.models.ModelBlockCached;
+import forestry.core.network.PacketBatcher;
 import forestry.core.render.TextureManagerForestry;
+import forestry.core.tiles.TileScheduler;
 import forestry.plugins.PluginManager;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.util.ResourceLocation;
@@ -87,9 +90,20 @@ public class EventHandlerCore {
 
 	@SubscribeEvent
 	public void handleWorldUnload(WorldEvent.Unload event) {
+		World world = event.getWorld();
+
 		for (ISaveEventHandler handler : PluginManager.saveEventHandlers) {
-			handler.onWorldUnload(event.getWorld());
+			handler.onWorldUnload(world);
+		}
+
+		for (ISpeciesRoot speciesRoot : AlleleManager.alleleRegistry.getSpeciesRoot().values()) {
+			if (speciesRoot instanceof SpeciesRoot) {
+				((SpeciesRoot) speciesRoot).onWorldUnload(world);
+			}
 		}
+
+		PacketBatcher.onWorldUnload(world);
+		TileScheduler.onWorldUnload(world);
 	}
 
 	@SubscribeEvent
@@ -52,7 +52,10 @@ import forestry.core.blocks.EnumResourceType;
 import forestry.core.circuits.CircuitRegistry;
 import forestry.core.circuits.SolderManager;
 import forestry.core.climate.ClimateManager;
+import forestry.core.commands.CommandNetwork;
 import forestry.core.commands.CommandPlugins;
+import forestry.core.commands.CommandRetrogen;
+import forestry.core.commands.CommandTiles;
 import forestry.core.commands.RootCommand;
 import forestry.core.config.Config;
 import forestry.core.config.Constants;
@@ -145,6 +148,9 @@ public class PluginCore extends BlankForestryPlugin {
 		MinecraftForge.EVENT_BUS.register(this);
 
 		rootCommand.addChildCommand(new CommandPlugins());
+		rootCommand.addChildCommand(new CommandNetwork());
+		rootCommand.addChildCommand(new CommandTiles());
+		rootCommand.addChildCommand(new CommandRetrogen());
 
 		CamouflageManager.camouflageAccess.registerCamouflageItemHandler(new CamouflageHandlerBlock());
 		CamouflageManager.camouflageAccess.registerCamouflageItemHandler(new CamouflageHandlerGlass());
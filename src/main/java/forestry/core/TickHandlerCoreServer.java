@@ -10,18 +10,15 @@
  ******************************************************************************/
 package forestry.core;
 
-import java.util.List;
-import java.util.Random;
-
-import com.google.common.collect.LinkedListMultimap;
 import forestry.core.config.Config;
 import forestry.core.config.Constants;
+import forestry.core.network.PacketBatcher;
+import forestry.core.tiles.TileScheduler;
+import forestry.core.worldgen.RetrogenScheduler;
 import forestry.core.worldgen.WorldGenerator;
 import forestry.plugins.PluginManager;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.world.World;
-import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.event.world.ChunkDataEvent;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
@@ -29,11 +26,10 @@ import net.minecraftforge.fml.common.gameevent.TickEvent.WorldTickEvent;
 
 public class TickHandlerCoreServer {
 
-	private final WorldGenerator worldGenerator;
-	private final LinkedListMultimap<Integer, ChunkCoords> chunkRegenList = LinkedListMultimap.create();
+	private final RetrogenScheduler retrogenScheduler;
 
 	public TickHandlerCoreServer(WorldGenerator worldGenerator) {
-		this.worldGenerator = worldGenerator;
+		this.retrogenScheduler = new RetrogenScheduler(worldGenerator);
 	}
 
 	@SubscribeEvent
@@ -52,30 +48,18 @@ public class TickHandlerCoreServer {
 		}
 
 		if (Config.doRetrogen) {
-			World world = event.world;
-			int dimensionID = world.provider.getDimension();
-			List<ChunkCoords> chunkList = chunkRegenList.get(dimensionID);
-
-			if (!chunkList.isEmpty()) {
-				ChunkCoords coords = chunkList.get(0);
-				chunkList.remove(0);
-
-				// This bit is from FML's GameRegistry.generateWorld where the seed is constructed.
-				long worldSeed = world.getSeed();
-				Random random = new Random(worldSeed);
-				long xSeed = random.nextLong() >> 2 + 1L;
-				long zSeed = random.nextLong() >> 2 + 1L;
-				random.setSeed(xSeed * coords.xCoord + zSeed * coords.zCoord ^ worldSeed);
-
-				worldGenerator.retroGen(random, coords.xCoord, coords.zCoord, world);
-			}
+			retrogenScheduler.tick(event.world);
 		}
+
+		TileScheduler.tick(event.world);
+		PacketBatcher.flush(event.world);
 	}
 
 	@SubscribeEvent
 	public void chunkSaveEventHandler(ChunkDataEvent.Save event) {
 		NBTTagCompound tag = new NBTTagCompound();
-		if (Config.doRetrogen) {
+		// chunks that still wait for retrogen are saved without the mark, so they are queued again on the next load
+		if (Config.doRetrogen && !retrogenScheduler.isQueued(event.getWorld(), event.getChunk())) {
 			tag.setBoolean("retrogen", true);
 		}
 
@@ -89,23 +73,9 @@ public class TickHandlerCoreServer {
 			if (eventData.hasKey(Constants.MOD_ID)) {
 				NBTTagCompound tag = (NBTTagCompound) eventData.getTag(Constants.MOD_ID);
 				if (!tag.hasKey("retrogen") || Config.forceRetrogen) {
-					ChunkCoords coords = new ChunkCoords(event.getChunk());
-					chunkRegenList.put(coords.dimension, coords);
+					retrogenScheduler.queue(event.getChunk());
 				}
 			}
 		}
 	}
-
-	private static class ChunkCoords {
-		public final int dimension;
-		public final int xCoord;
-		public final int zCoord;
-
-		public ChunkCoords(Chunk chunk) {
-			this.dimension = chunk.getWorld().provider.getDimension();
-			this.xCoord = chunk.xPosition;
-			this.zCoord = chunk.zPosition;
-		}
-	}
-
 }
@@ -66,4 +66,10 @@ public abstract class BlockForestry extends Block implements IItemModelRegister,
 			}
 		}
 	}
+
+	@Override
+	public void neighborChanged(IBlockState state, World world, BlockPos pos, Block blockIn, BlockPos fromPos) {
+		super.neighborChanged(state, world, pos, blockIn, fromPos);
+		TileUtil.actOnTile(world, pos, TileForestry.class, TileForestry::onNeighborBlockChange);
+	}
 }
@@ -0,0 +1,287 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.climate;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+
+/**
+ * Structure-of-arrays storage and diffusion of the climate of a {@link ClimateRegion}.
+ * <p>
+ * The climate of every position lives in the primitive arrays of this engine and is addressed by a dense index.
+ * The neighbour and chunk tables are rebuilt lazily after positions were added, which normally happens once when
+ * the greenhouse assembles.
+ * The sums of all temperatures and humidities are kept up to date with every change, so the average climate of
+ * the region never requires a pass over all positions.
+ */
+public class ClimateDiffusionEngine {
+	private static final int FACES = EnumFacing.VALUES.length;
+	private static final int INITIAL_CAPACITY = 16;
+
+	private final Map<Long, Integer> indices;
+	private long[] positions;
+	private float[] temperatures;
+	private float[] humidities;
+	private int size;
+
+	/* The index of the neighbour of every position for every facing or -1 if the neighbour is not part of this engine. */
+	private int[] neighbours;
+	/* The index of the chunk of every position in chunkPositions. */
+	private int[] chunkIndices;
+	/* One position of every chunk the positions of this engine are located in. */
+	private BlockPos[] chunkPositions;
+	private boolean[] loadedChunks;
+	private boolean tablesDirty;
+
+	private double temperatureSum;
+	private double humiditySum;
+
+	public ClimateDiffusionEngine() {
+		this.indices = new HashMap<>();
+		this.positions = new long[INITIAL_CAPACITY];
+		this.temperatures = new float[INITIAL_CAPACITY];
+		this.humidities = new float[INITIAL_CAPACITY];
+		this.neighbours = new int[0];
+		this.chunkIndices = new int[0];
+		this.chunkPositions = new BlockPos[0];
+		this.loadedChunks = new boolean[0];
+	}
+
+	/**
+	 * @return the index of the new position
+	 */
+	public int addPosition(BlockPos pos, float temperature, float humidity) {
+		if (size == positions.length) {
+			int capacity = size * 2;
+			positions = Arrays.copyOf(positions, capacity);
+			temperatures = Arrays.copyOf(temperatures, capacity);
+			humidities = Arrays.copyOf(humidities, capacity);
+		}
+		int index = size++;
+		positions[index] = pos.toLong();
+		temperatures[index] = temperature;
+		humidities[index] = humidity;
+		temperatureSum += temperature;
+		humiditySum += humidity;
+		indices.put(pos.toLong(), index);
+		tablesDirty = true;
+		return index;
+	}
+
+	/**
+	 * @return the index of the position or -1 if this engine doesn't contain the position
+	 */
+	public int indexOf(BlockPos pos) {
+		Integer index = indices.get(pos.toLong());
+		if (index == null) {
+			return -1;
+		}
+		return index;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public float getTemperature(int index) {
+		return temperatures[index];
+	}
+
+	public void setTemperature(int index, float temperature) {
+		temperatureSum += (double) temperature - temperatures[index];
+		temperatures[index] = temperature;
+	}
+
+	public float getHumidity(int index) {
+		return humidities[index];
+	}
+
+	public void setHumidity(int index, float humidity) {
+		humiditySum += (double) humidity - humidities[index];
+		humidities[index] = humidity;
+	}
+
+	public float getAverageTemperature() {
+		if (size == 0) {
+			return 0.0F;
+		}
+		return (float) (temperatureSum / size);
+	}
+
+	public float getAverageHumidity() {
+		if (size == 0) {
+			return 0.0F;
+		}
+		return (float) (humiditySum / size);
+	}
+
+	/**
+	 * Recomputes the sums from scratch to discard accumulated floating point errors.
+	 */
+	public void recalculateSums() {
+		double temperatureSum = 0.0;
+		double humiditySum = 0.0;
+		for (int index = 0; index < size; index++) {
+			temperatureSum += temperatures[index];
+			humiditySum += humidities[index];
+		}
+		this.temperatureSum = temperatureSum;
+		this.humiditySum = humiditySum;
+	}
+
+	/**
+	 * Updates which of the chunks of this engine are loaded. Must be called before {@link #isLoaded(int)} is used.
+	 */
+	public void updateLoadedChunks(World world) {
+		updateTables();
+		for (int chunk = 0; chunk < chunkPositions.length; chunk++) {
+			loadedChunks[chunk] = world.isBlockLoaded(chunkPositions[chunk]);
+		}
+	}
+
+	public boolean isLoaded(int index) {
+		return loadedChunks[chunkIndices[index]];
+	}
+
+	/**
+	 * Exchanges the climate of every loaded position with its neighbours.
+	 * The positions are processed in index order and every exchange sees the results of the previous ones,
+	 * exactly like a sequence of {@link #exchange(int)} calls.
+	 *
+	 * @return true if the climate of any position changed
+	 */
+	public boolean diffuse() {
+		updateTables();
+		boolean hasChange = false;
+		for (int index = 0; index < size; index++) {
+			if (loadedChunks[chunkIndices[index]]) {
+				hasChange |= exchangeWithNeighbours(index);
+			}
+		}
+		return hasChange;
+	}
+
+	/**
+	 * Exchanges the climate of one position with its neighbours.
+	 *
+	 * @return true if the climate of the position changed
+	 */
+	public boolean exchange(int index) {
+		updateTables();
+		return exchangeWithNeighbours(index);
+	}
+
+	private boolean exchangeWithNeighbours(int index) {
+		final float[] temperatures = this.temperatures;
+		final float[] humidities = this.humidities;
+		boolean hasChange = false;
+		int offset = index * FACES;
+		for (int face = 0; face < FACES; face++) {
+			int neighbour = neighbours[offset + face];
+			if (neighbour >= 0) {
+				float posTemp = temperatures[index];
+				float infoTemp = temperatures[neighbour];
+				if (posTemp > infoTemp + ClimateRegion.CLIMATE_CHANGE) {
+					float change = Math.min(ClimateRegion.CLIMATE_CHANGE, posTemp - infoTemp);
+					float newPosTemp = posTemp - change;
+					float newInfoTemp = infoTemp + change;
+					temperatures[index] = newPosTemp;
+					temperatures[neighbour] = newInfoTemp;
+					// the rounded values don't cancel exactly, so the sum follows the stored values
+					temperatureSum += ((double) newPosTemp - posTemp) + ((double) newInfoTemp - infoTemp);
+					hasChange = true;
+				}
+				float posHumid = humidities[index];
+				float infoHumid = humidities[neighbour];
+				if (posHumid > infoHumid + ClimateRegion.CLIMATE_CHANGE) {
+					float change = Math.min(ClimateRegion.CLIMATE_CHANGE, posHumid - infoHumid);
+					float newPosHumid = posHumid - change;
+					float newInfoHumid = infoHumid + change;
+					humidities[index] = newPosHumid;
+					humidities[neighbour] = newInfoHumid;
+					humiditySum += ((double) newPosHumid - posHumid) + ((double) newInfoHumid - infoHumid);
+					hasChange = true;
+				}
+			}
+		}
+		return hasChange;
+	}
+
+	/**
+	 * Moves the climate of one position a step towards the given climate.
+	 *
+	 * @return true if the climate of the position changed
+	 */
+	public boolean relax(int index, float temperature, float humidity) {
+		boolean hasChange = false;
+		float posTemp = temperatures[index];
+		float posHumid = humidities[index];
+		if (posTemp != temperature) {
+			if (posTemp > temperature) {
+				setTemperature(index, posTemp - Math.min(ClimateRegion.CLIMATE_CHANGE, posTemp - temperature));
+			} else {
+				setTemperature(index, posTemp + Math.min(ClimateRegion.CLIMATE_CHANGE, temperature - posTemp));
+			}
+			hasChange = true;
+		}
+		if (posHumid != humidity) {
+			if (posHumid > humidity) {
+				setHumidity(index, posHumid - Math.min(ClimateRegion.CLIMATE_CHANGE, posHumid - humidity));
+			} else {
+				setHumidity(index, posHumid + Math.min(ClimateRegion.CLIMATE_CHANGE, humidity - posHumid));
+			}
+			hasChange = true;
+		}
+		return hasChange;
+	}
+
+	private void updateTables() {
+		if (!tablesDirty) {
+			return;
+		}
+		neighbours = new int[size * FACES];
+		Arrays.fill(neighbours, -1);
+		chunkIndices = new int[size];
+		Map<Long, Integer> chunks = new HashMap<>();
+		for (int index = 0; index < size; index++) {
+			BlockPos pos = BlockPos.fromLong(positions[index]);
+			int offset = index * FACES;
+			for (EnumFacing facing : EnumFacing.VALUES) {
+				Integer neighbour = indices.get(pos.offset(facing).toLong());
+				if (neighbour != null) {
+					neighbours[offset + facing.ordinal()] = neighbour;
+				}
+			}
+			long chunkKey = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+			Integer chunk = chunks.get(chunkKey);
+			if (chunk == null) {
+				chunk = chunks.size();
+				chunks.put(chunkKey, chunk);
+			}
+			chunkIndices[index] = chunk;
+		}
+		chunkPositions = new BlockPos[chunks.size()];
+		for (int index = 0; index < size; index++) {
+			int chunk = chunkIndices[index];
+			if (chunkPositions[chunk] == null) {
+				chunkPositions[chunk] = BlockPos.fromLong(positions[index]);
+			}
+		}
+		loadedChunks = new boolean[chunkPositions.length];
+		tablesDirty = false;
+	}
+}
@@ -29,10 +29,12 @@ import net.minecraft.world.World;
 public class ClimateManager implements IClimateManager {
 
 	protected final Map<World, List<IClimateRegion>> regions;
+	protected final Map<World, ClimatePositionIndex> positionIndices;
 	private final Object regionsMutex;
 
 	public ClimateManager() {
 		regions = new HashMap<>();
+		positionIndices = new HashMap<>();
 		regionsMutex = new Object();
 	}
 
@@ -44,16 +46,19 @@ public class ClimateManager implements IClimateManager {
 				this.regions.put(world, new ArrayList<>());
 			}
 			List<IClimateRegion> regions = this.regions.get(world);
+			ClimatePositionIndex index = getPositionIndex(world);
 			if (!regions.contains(region)) {
 				if(!regions.isEmpty()){
 					for (IClimatePosition pos : region.getPositions()) {
-						if (getRegionForPos(world, pos.getPos()) != null) {
+						if (index.getRegion(pos.getPos()) != null) {
 							return;
 						}
 					}
 				}
 				regions.add(region);
 			}
+			// Re-adding a known region refreshes the positions it gained since it was added
+			index.addRegion(region);
 		}
 	}
 
@@ -65,7 +70,9 @@ public class ClimateManager implements IClimateManager {
 				this.regions.put(world, new ArrayList<>());
 			}
 			List<IClimateRegion> regions = this.regions.get(world);
-			regions.remove(region);
+			if (regions.remove(region)) {
+				getPositionIndex(world).removeRegion(region);
+			}
 		}
 	}
 
@@ -123,36 +130,37 @@ public class ClimateManager implements IClimateManager {
 
 	@Override
 	public IClimatePosition getPosition(World world, BlockPos pos) {
-		if (!regions.containsKey(world)) {
-			regions.put(world, new ArrayList<>());
+		ClimatePositionIndex index = positionIndices.get(world);
+		if (index == null) {
 			return null;
 		}
-		for (IClimateRegion region : regions.get(world)) {
-			IClimatePosition position = region.getPosition(pos);
-			if(position != null){
-				return position;
-			}
-		}
-		return null;
+		return index.getPosition(pos);
 	}
 
 	@Override
 	public IClimateRegion getRegionForPos(World world, BlockPos pos) {
-		if (!regions.containsKey(world)) {
-			this.regions.put(world, new ArrayList<>());
+		ClimatePositionIndex index = positionIndices.get(world);
+		if (index == null) {
+			return null;
 		}
-		List<IClimateRegion> regions = this.regions.get(world);
-		for (IClimateRegion region : regions) {
-			if (region.getPosition(pos) != null) {
-				return region;
-			}
+		return index.getRegion(pos);
+	}
+
+	private ClimatePositionIndex getPositionIndex(World world) {
+		ClimatePositionIndex index = positionIndices.get(world);
+		if (index == null) {
+			index = new ClimatePositionIndex();
+			positionIndices.put(world, index);
 		}
-		return null;
+		return index;
 	}
 	
 	@Override
 	public void onWorldUnload(World world) {
-		regions.remove(world);
+		synchronized (regionsMutex) {
+			regions.remove(world);
+			positionIndices.remove(world);
+		}
 	}
 
 	@Override
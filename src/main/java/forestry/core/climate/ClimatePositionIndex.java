@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.climate;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+
+import forestry.api.climate.IClimatePosition;
+import forestry.api.climate.IClimateRegion;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+
+/**
+ * Spatial index of all climate positions of one world.
+ * Positions are bucketed by the hashed chunk coordinate and keyed by their packed block position,
+ * so point lookups don't have to walk every region of the world.
+ */
+public class ClimatePositionIndex {
+	// Indexed by the hashed chunk coordinate, then by the packed block position
+	private final Map<Long, Map<Long, IClimatePosition>> positionsByChunk;
+
+	public ClimatePositionIndex() {
+		this.positionsByChunk = new HashMap<>();
+	}
+
+	/**
+	 * Adds all positions of the region to the index. Positions that are already indexed are replaced.
+	 */
+	public void addRegion(IClimateRegion region) {
+		for (IClimatePosition position : region.getPositions()) {
+			BlockPos pos = position.getPos();
+			long chunkKey = getChunkKey(pos);
+			Map<Long, IClimatePosition> chunkPositions = positionsByChunk.get(chunkKey);
+			if (chunkPositions == null) {
+				chunkPositions = new HashMap<>();
+				positionsByChunk.put(chunkKey, chunkPositions);
+			}
+			chunkPositions.put(pos.toLong(), position);
+		}
+	}
+
+	/**
+	 * Removes all positions of the region from the index.
+	 */
+	public void removeRegion(IClimateRegion region) {
+		for (IClimatePosition position : region.getPositions()) {
+			BlockPos pos = position.getPos();
+			long chunkKey = getChunkKey(pos);
+			Map<Long, IClimatePosition> chunkPositions = positionsByChunk.get(chunkKey);
+			if (chunkPositions != null) {
+				IClimatePosition indexed = chunkPositions.get(pos.toLong());
+				if (indexed != null && indexed.getClimateRegion() == region) {
+					chunkPositions.remove(pos.toLong());
+					if (chunkPositions.isEmpty()) {
+						positionsByChunk.remove(chunkKey);
+					}
+				}
+			}
+		}
+	}
+
+	@Nullable
+	public IClimatePosition getPosition(BlockPos pos) {
+		Map<Long, IClimatePosition> chunkPositions = positionsByChunk.get(getChunkKey(pos));
+		if (chunkPositions == null) {
+			return null;
+		}
+		return chunkPositions.get(pos.toLong());
+	}
+
+	@Nullable
+	public IClimateRegion getRegion(BlockPos pos) {
+		IClimatePosition position = getPosition(pos);
+		if (position == null) {
+			return null;
+		}
+		return position.getClimateRegion();
+	}
+
+	public void clear() {
+		positionsByChunk.clear();
+	}
+
+	private static long getChunkKey(BlockPos pos) {
+		return ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+	}
+}
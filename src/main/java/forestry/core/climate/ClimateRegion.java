@@ -11,8 +11,11 @@
 package forestry.core.climate;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import forestry.api.climate.IClimateInfo;
@@ -24,7 +27,6 @@ import forestry.core.network.PacketBufferForestry;
 import forestry.greenhouse.multiblock.IGreenhouseControllerInternal;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
-import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 
@@ -33,16 +35,18 @@ public class ClimateRegion implements IClimateRegion, IStreamable {
 	
 	protected final World world;
 	protected final IGreenhouseControllerInternal controller;
-	protected final Set<IClimatePosition> positions;
+	/* Dense position storage, the index of a position is the same as the index of its climate in the engine. */
+	protected final List<IClimatePosition> positions;
+	protected final ClimateDiffusionEngine engine;
 	protected final Set<IClimateSource> sources;
 	protected float temperature;
 	protected float humidity;
 
-	public ClimateRegion(IGreenhouseControllerInternal controller, Set<IClimatePosition> positions) {
-		this.world = controller.getWorldObj();
-		this.controller = controller;
-		this.positions = positions;
-		this.sources = new HashSet<>();
+	public ClimateRegion(IGreenhouseControllerInternal controller, Collection<IClimatePosition> positions) {
+		this(controller);
+		for (IClimatePosition position : positions) {
+			setPosition(position.getPos(), position.getTemperature(), position.getHumidity());
+		}
 		calculateAverageClimate();
 	}
 	
@@ -52,37 +56,30 @@ public class ClimateRegion implements IClimateRegion, IStreamable {
 	public ClimateRegion(IGreenhouseControllerInternal controller) {
 		this.world = controller.getWorldObj();
 		this.controller = controller;
-		this.positions = new HashSet<>();
+		this.positions = new ArrayList<>();
+		this.engine = new ClimateDiffusionEngine();
 		this.sources = new HashSet<>();
 	}
 
 
 	public ClimateRegion(IGreenhouseControllerInternal controller, NBTTagCompound nbtTag) {
-		this.world = controller.getWorldObj();
-		this.controller = controller;
-		this.positions = new HashSet<>();
-		this.sources = new HashSet<>();
+		this(controller);
 		readFromNBT(nbtTag);
 		calculateAverageClimate();
 	}
 
 	@Override
 	public void calculateAverageClimate(){
-		humidity = 0.0F;
-		temperature = 0.0F;
-		if(!positions.isEmpty()){
-			int positions = 0;
-			for (IClimatePosition position : this.positions) {
-				if (position != null) {
-					positions++;
-					humidity += position.getHumidity();
-					temperature += position.getTemperature();
-				}
-			}
-	
-			temperature /= positions;
-			humidity /= positions;
-		}
+		engine.recalculateSums();
+		updateAverageClimate();
+	}
+
+	/**
+	 * Publishes the average climate of the engine, which is kept up to date with every change.
+	 */
+	protected void updateAverageClimate() {
+		temperature = engine.getAverageTemperature();
+		humidity = engine.getAverageHumidity();
 	}
 
 	@Override
@@ -96,79 +93,27 @@ public class ClimateRegion implements IClimateRegion, IStreamable {
 			}
 		}
 		if (ticks % getTicksPerUpdate() == 0) {
-			for (IClimatePosition position : positions) {
-				BlockPos pos = position.getPos();
-				if (world.isBlockLoaded(pos)) {
-					hasChange |= updateSides(position);
-					if (!controller.isAssembled()) {
-						hasChange |= returnClimateToDefault(position);
-					}
+			engine.updateLoadedChunks(world);
+			if (controller.isAssembled()) {
+				IClimateInfo climateInfo = controller.getControlClimate();
+				if (climateInfo.getTemperature() != temperature || climateInfo.getHumidity() != humidity) {
+					hasChange |= engine.diffuse();
 				}
-			}
-		}
-		if (hasChange) {
-			calculateAverageClimate();
-		}
-	}
-
-	protected boolean updateSides(IClimatePosition position) {
-		BlockPos pos = position.getPos();
-		IClimateInfo climateInfo = getControl(pos);
-		boolean hasChange = false;
-		if (climateInfo.getTemperature() != temperature || climateInfo.getHumidity() != humidity) {
-			for (EnumFacing facing : EnumFacing.VALUES) {
-				IClimatePosition infoFace = getPosition(pos.offset(facing));
-				if (infoFace != null) {
-					float infoTemp = infoFace.getTemperature();
-					float infoHumid = infoFace.getHumidity();
-					float posTemp = position.getTemperature();
-					float posHumid = position.getHumidity();
-					if (posTemp > infoTemp + CLIMATE_CHANGE) {
-						float change = Math.min(CLIMATE_CHANGE, posTemp - infoTemp);
-						position.addTemperature(-change);
-						infoFace.addTemperature(change);
-						hasChange = true;
-					}
-					if (posHumid > infoHumid + CLIMATE_CHANGE) {
-						float change = Math.min(CLIMATE_CHANGE, posHumid - infoHumid);
-						position.addHumidity(-change);
-						infoFace.addHumidity(change);
-						hasChange = true;
+			} else {
+				for (int index = 0; index < engine.size(); index++) {
+					if (engine.isLoaded(index)) {
+						IClimateInfo climateInfo = getControl(positions.get(index).getPos());
+						if (climateInfo.getTemperature() != temperature || climateInfo.getHumidity() != humidity) {
+							hasChange |= engine.exchange(index);
+						}
+						hasChange |= engine.relax(index, climateInfo.getTemperature(), climateInfo.getHumidity());
 					}
 				}
 			}
 		}
-		return hasChange;
-	}
-	
-	protected boolean returnClimateToDefault(IClimatePosition position){
-		BlockPos pos = position.getPos();
-		IClimateInfo climateInfo = getControl(pos);
-		boolean hasChange = false;
-
-		float infoTemp = climateInfo.getTemperature();
-		float infoHumid = climateInfo.getHumidity();
-		float posTemp = position.getTemperature();
-		float posHumid = position.getHumidity();
-		if (posTemp != infoTemp) {
-			if (posTemp > infoTemp) {
-				position.addTemperature(-Math.min(CLIMATE_CHANGE, posTemp - infoTemp));
-				hasChange = true;
-			} else {
-				position.addTemperature(Math.min(CLIMATE_CHANGE, infoTemp - posTemp));
-				hasChange = true;
-			}
-		}
-		if (posHumid != infoHumid) {
-			if (posHumid > infoHumid) {
-				position.addHumidity(-Math.min(CLIMATE_CHANGE, posHumid - infoHumid));
-				hasChange = true;
-			} else {
-				position.addHumidity(Math.min(CLIMATE_CHANGE, infoHumid - posHumid));
-				hasChange = true;
-			}
+		if (hasChange) {
+			updateAverageClimate();
 		}
-		return hasChange;
 	}
 
 	protected IClimateInfo getControl(BlockPos pos) {
@@ -182,17 +127,16 @@ public class ClimateRegion implements IClimateRegion, IStreamable {
 	
 	@Override
 	public Collection<IClimatePosition> getPositions() {
-		return positions;
+		return Collections.unmodifiableList(positions);
 	}
 	
 	@Override
 	public IClimatePosition getPosition(BlockPos pos) {
-		for(IClimatePosition position : positions){
-			if(position.getPos().equals(pos)){
-				return position;
-			}
+		int index = engine.indexOf(pos);
+		if (index < 0) {
+			return null;
 		}
-		return null;
+		return positions.get(index);
 	}
 
 	@Override
@@ -223,7 +167,7 @@ public class ClimateRegion implements IClimateRegion, IStreamable {
 			if (position != null) {
 				position.readFromNBT(positionTag);
 			} else {
-				positions.add(new ClimatePosition(this, pos, positionTag));
+				setPosition(pos, positionTag.getFloat("Temperature"), positionTag.getFloat("Humidity"));
 			}
 		}
 	}
@@ -245,7 +189,8 @@ public class ClimateRegion implements IClimateRegion, IStreamable {
 			position.setHumidity(humidity);
 			position.setTemperature(temperature);
 		} else {
-			positions.add(new ClimatePosition(this, pos, temperature, humidity));
+			int index = engine.addPosition(pos, temperature, humidity);
+			positions.add(new ClimateRegionPosition(this, engine, pos, index));
 		}
 	}
 
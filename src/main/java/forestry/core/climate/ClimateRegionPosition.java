@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.climate;
+
+import forestry.api.climate.IClimateInfo;
+import forestry.api.climate.IClimatePosition;
+import forestry.api.climate.IClimateRegion;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * A position of a {@link ClimateRegion}. The climate is stored in the {@link ClimateDiffusionEngine} of the region.
+ */
+public class ClimateRegionPosition implements IClimatePosition {
+	protected final IClimateRegion region;
+	protected final ClimateDiffusionEngine engine;
+	protected final BlockPos pos;
+	protected final int index;
+
+	public ClimateRegionPosition(IClimateRegion region, ClimateDiffusionEngine engine, BlockPos pos, int index) {
+		this.region = region;
+		this.engine = engine;
+		this.pos = pos;
+		this.index = index;
+	}
+
+	@Override
+	public IClimateRegion getClimateRegion() {
+		return region;
+	}
+
+	@Override
+	public BlockPos getPos() {
+		return pos;
+	}
+
+	@Override
+	public void setTemperature(float temperature) {
+		engine.setTemperature(index, temperature);
+	}
+
+	@Override
+	public float getTemperature() {
+		return engine.getTemperature(index);
+	}
+
+	@Override
+	public void addTemperature(float temperature) {
+		setTemperature(getTemperature() + temperature);
+	}
+
+	@Override
+	public void addHumidity(float humidity) {
+		setHumidity(getHumidity() + humidity);
+	}
+
+	@Override
+	public void setHumidity(float humidity) {
+		engine.setHumidity(index, humidity);
+	}
+
+	@Override
+	public float getHumidity() {
+		return engine.getHumidity(index);
+	}
+
+	@Override
+	public IClimateInfo getInfo() {
+		return new ClimateInfo(getTemperature(), getHumidity());
+	}
+
+	@Override
+	public void readFromNBT(NBTTagCompound nbt) {
+		setTemperature(nbt.getFloat("Temperature"));
+		setHumidity(nbt.getFloat("Humidity"));
+	}
+
+	@Override
+	public NBTTagCompound writeToNBT(NBTTagCompound nbt) {
+		nbt.setFloat("Temperature", getTemperature());
+		nbt.setFloat("Humidity", getHumidity());
+		return nbt;
+	}
+}
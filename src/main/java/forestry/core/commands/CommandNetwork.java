@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.commands;
+
+import java.util.Map;
+
+import forestry.core.network.PacketBatcher;
+import forestry.core.network.PacketIdClient;
+import forestry.core.network.PacketStatistics;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextFormatting;
+import net.minecraft.world.World;
+
+/**
+ * Prints the packets and bytes forestry sent to clients since the server started or the last reset,
+ * and the batched updates of the last tick of every world.
+ */
+public class CommandNetwork extends SubCommand {
+
+	public CommandNetwork() {
+		super("network");
+		addAlias("net");
+		setPermLevel(PermLevel.ADMIN);
+		addChildCommand(new CommandNetworkReset());
+	}
+
+	@Override
+	public void executeSubCommand(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException {
+		if (args.length == 0) {
+			printPacketStatistics(sender);
+			printBatchStatistics(sender);
+		} else {
+			CommandHelpers.throwWrongUsage(sender, this);
+		}
+	}
+
+	private static void printPacketStatistics(ICommandSender sender) {
+		long packetsTotal = 0;
+		long bytesTotal = 0;
+		for (PacketIdClient packetId : PacketIdClient.VALUES) {
+			long packets = PacketStatistics.getPacketsSent(packetId);
+			if (packets > 0) {
+				long bytes = PacketStatistics.getBytesSent(packetId);
+				CommandHelpers.sendChatMessage(sender, TextFormatting.GRAY + packetId.name() + ": " + packets + " packets, " + bytes + " bytes");
+				packetsTotal += packets;
+				bytesTotal += bytes;
+			}
+		}
+		CommandHelpers.sendChatMessage(sender, TextFormatting.BLUE + "Total: " + packetsTotal + " packets, " + bytesTotal + " bytes");
+	}
+
+	private static void printBatchStatistics(ICommandSender sender) {
+		for (Map.Entry<World, PacketBatcher> entry : PacketBatcher.getBatchers().entrySet()) {
+			int dimension = entry.getKey().provider.getDimension();
+			PacketBatcher batcher = entry.getValue();
+			CommandHelpers.sendChatMessage(sender, TextFormatting.GRAY + "Dimension " + dimension + " last tick: "
+					+ batcher.getLastUpdates() + " updates in " + batcher.getLastPackets() + " packets, " + batcher.getLastBytes() + " bytes");
+			CommandHelpers.sendChatMessage(sender, TextFormatting.GRAY + "Dimension " + dimension + " peak: "
+					+ batcher.getPeakUpdates() + " updates in " + batcher.getPeakPackets() + " packets, " + batcher.getPeakBytes() + " bytes");
+		}
+	}
+
+	public static class CommandNetworkReset extends SubCommand {
+
+		public CommandNetworkReset() {
+			super("reset");
+			setPermLevel(PermLevel.ADMIN);
+		}
+
+		@Override
+		public void executeSubCommand(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException {
+			if (args.length == 0) {
+				PacketStatistics.reset();
+				for (PacketBatcher batcher : PacketBatcher.getBatchers().values()) {
+					batcher.resetPeaks();
+				}
+				CommandHelpers.sendChatMessage(sender, TextFormatting.BLUE + "Packet statistics reset.");
+			} else {
+				CommandHelpers.throwWrongUsage(sender, this);
+			}
+		}
+	}
+}
@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.commands;
+
+import forestry.core.config.Config;
+import forestry.core.worldgen.RetrogenQueue;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextFormatting;
+import net.minecraft.world.WorldServer;
+import net.minecraftforge.common.DimensionManager;
+
+/**
+ * Prints the progress of the retrogen of every world and the estimated time until it is done.
+ */
+public class CommandRetrogen extends SubCommand {
+
+	public CommandRetrogen() {
+		super("retrogen");
+		setPermLevel(PermLevel.ADMIN);
+	}
+
+	@Override
+	public void executeSubCommand(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException {
+		if (args.length == 0) {
+			printRetrogenProgress(sender);
+		} else {
+			CommandHelpers.throwWrongUsage(sender, this);
+		}
+	}
+
+	private static void printRetrogenProgress(ICommandSender sender) {
+		if (!Config.doRetrogen) {
+			CommandHelpers.sendChatMessage(sender, TextFormatting.GRAY + "Retrogen is disabled");
+		}
+		for (WorldServer world : DimensionManager.getWorlds()) {
+			RetrogenQueue queue = RetrogenQueue.get(world);
+			int remaining = queue.size();
+			int processed = queue.getProcessedCount();
+			if (remaining == 0 && processed == 0) {
+				continue;
+			}
+
+			String message = "Dimension " + world.provider.getDimension() + ": " + processed + " done, " + remaining + " remaining";
+			long estimatedSeconds = queue.getEstimatedSeconds();
+			if (remaining > 0 && estimatedSeconds >= 0) {
+				message += ", about " + formatDuration(estimatedSeconds) + " left";
+			}
+			CommandHelpers.sendChatMessage(sender, TextFormatting.GRAY + message);
+		}
+	}
+
+	private static String formatDuration(long seconds) {
+		if (seconds < 60) {
+			return seconds + "s";
+		}
+		long minutes = seconds / 60;
+		if (minutes < 60) {
+			return minutes + "m " + seconds % 60 + "s";
+		}
+		return minutes / 60 + "h " + minutes % 60 + "m";
+	}
+}
@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.commands;
+
+import forestry.core.tiles.TileScheduler;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextFormatting;
+import net.minecraft.world.WorldServer;
+import net.minecraftforge.common.DimensionManager;
+
+/**
+ * Prints the number of ticking and dormant forestry tiles in every world.
+ */
+public class CommandTiles extends SubCommand {
+
+	public CommandTiles() {
+		super("tiles");
+		setPermLevel(PermLevel.ADMIN);
+	}
+
+	@Override
+	public void executeSubCommand(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException {
+		if (args.length == 0) {
+			printTileStatistics(sender);
+		} else {
+			CommandHelpers.throwWrongUsage(sender, this);
+		}
+	}
+
+	private static void printTileStatistics(ICommandSender sender) {
+		int tickingTotal = 0;
+		int dormantTotal = 0;
+		for (WorldServer world : DimensionManager.getWorlds()) {
+			int ticking = TileScheduler.countTickingTiles(world);
+			int dormant = TileScheduler.getDormantCount(world);
+			CommandHelpers.sendChatMessage(sender, TextFormatting.GRAY + "Dimension " + world.provider.getDimension() + ": " + ticking + " ticking, " + dormant + " dormant");
+			tickingTotal += ticking;
+			dormantTotal += dormant;
+		}
+		CommandHelpers.sendChatMessage(sender, TextFormatting.BLUE + "Total: " + tickingTotal + " ticking, " + dormantTotal + " dormant");
+	}
+}
@@ -81,6 +81,7 @@ public class Config {
 	// Retrogen
 	public static boolean doRetrogen = false;
 	public static boolean forceRetrogen = false;
+	public static int retrogenTickBudget = 5;
 
 	// Performance
 	public static boolean enableBackpackResupply = true;
@@ -197,6 +198,8 @@ public class Config {
 			Log.info("Enabled retrogen.");
 		}
 
+		retrogenTickBudget = configCommon.getIntLocalized("world.generate.retrogen", "tick.budget", retrogenTickBudget, 1, 50);
+
 		generateBeehivesAmount = configCommon.getFloatLocalized("world.generate.beehives", "amount", generateBeehivesAmount, 0.0f, 10.0f);
 		generateBeehivesDebug = configCommon.getBooleanLocalized("world.generate.beehives", "debug", generateBeehivesDebug);
 
@@ -10,6 +10,7 @@
  ******************************************************************************/
 package forestry.core.errors;
 
+import java.util.BitSet;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -19,43 +20,99 @@ import forestry.api.core.IErrorLogic;
 import forestry.api.core.IErrorState;
 import net.minecraft.network.PacketBuffer;
 
+/**
+ * Keeps the registered error states in a bitset over their indices in the {@link ErrorStateRegistry},
+ * so clearing and setting the same conditions again every work cycle does not allocate anything.
+ * <p>
+ * The change version is incremented on every change of the states, so containers only have to compare the states with
+ * the ones they sent to the client after a change, see {@link #getChangeVersion()} and {@link #hasSameErrors(BitSet)}.
+ */
 public class ErrorLogic implements IErrorLogic {
-	private final Set<IErrorState> errorStates = new HashSet<>();
+	private final BitSet errors = new BitSet();
+	/* Error states that are not registered have no index */
+	private final Set<IErrorState> unregisteredErrors = new HashSet<>();
+	private int changeVersion;
 
 	@Override
 	public final boolean setCondition(boolean condition, IErrorState errorState) {
-		if (condition) {
-			errorStates.add(errorState);
-		} else {
-			errorStates.remove(errorState);
+		int index = ErrorStateRegistry.getIndex(errorState);
+		if (index < 0) {
+			boolean changed = condition ? unregisteredErrors.add(errorState) : unregisteredErrors.remove(errorState);
+			if (changed) {
+				changeVersion++;
+			}
+		} else if (errors.get(index) != condition) {
+			errors.set(index, condition);
+			changeVersion++;
 		}
 		return condition;
 	}
 
 	@Override
 	public final boolean contains(IErrorState state) {
-		return errorStates.contains(state);
+		int index = ErrorStateRegistry.getIndex(state);
+		return index < 0 ? unregisteredErrors.contains(state) : errors.get(index);
 	}
 
 	@Override
 	public final boolean hasErrors() {
-		return !errorStates.isEmpty();
+		return !errors.isEmpty() || !unregisteredErrors.isEmpty();
 	}
 
 	@Override
 	public final ImmutableSet<IErrorState> getErrorStates() {
-		return ImmutableSet.copyOf(errorStates);
+		ImmutableSet.Builder<IErrorState> errorStates = ImmutableSet.builder();
+		for (int index = errors.nextSetBit(0); index >= 0; index = errors.nextSetBit(index + 1)) {
+			IErrorState errorState = ErrorStateRegistry.getErrorStateByIndex(index);
+			if (errorState != null) {
+				errorStates.add(errorState);
+			}
+		}
+		errorStates.addAll(unregisteredErrors);
+		return errorStates.build();
 	}
 
 	@Override
 	public void clearErrors() {
-		errorStates.clear();
+		if (hasErrors()) {
+			errors.clear();
+			unregisteredErrors.clear();
+			changeVersion++;
+		}
+	}
+
+	/**
+	 * @return a number that changes whenever the error states change
+	 */
+	public int getChangeVersion() {
+		return changeVersion;
+	}
+
+	/**
+	 * @param errors the indices of error states, see {@link #copyErrors(BitSet)}
+	 * @return true if exactly these error states are set, always false while unregistered error states are set
+	 */
+	public boolean hasSameErrors(BitSet errors) {
+		return unregisteredErrors.isEmpty() && this.errors.equals(errors);
+	}
+
+	/**
+	 * Replaces the contents of the bitset with the indices of the registered error states that are set.
+	 */
+	public void copyErrors(BitSet errors) {
+		errors.clear();
+		errors.or(this.errors);
 	}
 
 	@Override
 	public void writeData(PacketBuffer data) {
-		data.writeShort(errorStates.size());
-		for (IErrorState errorState : errorStates) {
+		// the indices depend on the order of registration, so the ids of the states are sent
+		data.writeShort(errors.cardinality() + unregisteredErrors.size());
+		for (int index = errors.nextSetBit(0); index >= 0; index = errors.nextSetBit(index + 1)) {
+			IErrorState errorState = ErrorStateRegistry.getErrorStateByIndex(index);
+			data.writeShort(errorState == null ? -1 : errorState.getID());
+		}
+		for (IErrorState errorState : unregisteredErrors) {
 			data.writeShort(errorState.getID());
 		}
 	}
@@ -68,7 +125,9 @@ public class ErrorLogic implements IErrorLogic {
 		for (int i = 0; i < errorStateCount; i++) {
 			short errorStateId = data.readShort();
 			IErrorState errorState = ForestryAPI.errorStateRegistry.getErrorState(errorStateId);
-			errorStates.add(errorState);
+			if (errorState != null) {
+				setCondition(true, errorState);
+			}
 		}
 	}
 }
@@ -10,8 +10,12 @@
  ******************************************************************************/
 package forestry.core.errors;
 
+import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -31,6 +35,9 @@ public class ErrorStateRegistry implements IErrorStateRegistry {
 	private static final BiMap<Short, IErrorState> states = HashBiMap.create();
 	private static final Map<String, IErrorState> stateNames = new HashMap<>();
 	private static final Set<IErrorState> stateView = Collections.unmodifiableSet(states.inverse().keySet());
+	/* Dense indices of the registered states in the order of registration, used by ErrorLogic to keep the states in a bitset */
+	private static final List<IErrorState> statesByIndex = new ArrayList<>();
+	private static final Map<IErrorState, Integer> stateIndices = new IdentityHashMap<>();
 
 	@Override
 	public void registerErrorState(IErrorState state) {
@@ -39,9 +46,24 @@ public class ErrorStateRegistry implements IErrorStateRegistry {
 		}
 
 		states.put(state.getID(), state);
+		stateIndices.put(state, statesByIndex.size());
+		statesByIndex.add(state);
 		addStateName(state, state.getUniqueName());
 	}
 
+	/**
+	 * @return the dense index of the registered error state, or -1 if the state is not registered
+	 */
+	public static int getIndex(IErrorState state) {
+		Integer index = stateIndices.get(state);
+		return index == null ? -1 : index;
+	}
+
+	@Nullable
+	public static IErrorState getErrorStateByIndex(int index) {
+		return index >= 0 && index < statesByIndex.size() ? statesByIndex.get(index) : null;
+	}
+
 	@Override
 	public void addAlias(IErrorState state, String name) {
 		if (!states.values().contains(state)) {
@@ -18,6 +18,7 @@ import forestry.core.network.IStreamable;
 import forestry.core.network.PacketBufferForestry;
 import forestry.core.utils.Translator;
 import net.minecraft.item.EnumRarity;
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.FluidTank;
@@ -32,6 +33,8 @@ public class StandardTank extends FluidTank implements IStreamable {
 
 	private ITankUpdateHandler tankUpdateHandler = FakeTankUpdateHandler.instance;
 	private int tankIndex;
+	/* Incremented on every change of the contents, see getChangeVersion() */
+	private int changeVersion;
 
 	@SideOnly(Side.CLIENT)
 	@Nullable
@@ -59,6 +62,13 @@ public class StandardTank extends FluidTank implements IStreamable {
 		return tankIndex;
 	}
 
+	/**
+	 * @return a number that changes whenever the contents of this tank were changed
+	 */
+	public int getChangeVersion() {
+		return changeVersion;
+	}
+
 	public int getColor() {
 		Fluid f = getFluidType();
 		if (f == null) {
@@ -88,6 +98,7 @@ public class StandardTank extends FluidTank implements IStreamable {
 	public int fillInternal(FluidStack resource, boolean doFill) {
 		int filled = super.fillInternal(resource, doFill);
 		if (doFill && filled > 0) {
+			changeVersion++;
 			tankUpdateHandler.updateTankLevels(this);
 		}
 		return filled;
@@ -98,11 +109,25 @@ public class StandardTank extends FluidTank implements IStreamable {
 	public FluidStack drainInternal(int maxDrain, boolean doDrain) {
 		FluidStack drained = super.drainInternal(maxDrain, doDrain);
 		if (doDrain && drained != null && drained.amount > 0) {
+			changeVersion++;
 			tankUpdateHandler.updateTankLevels(this);
 		}
 		return drained;
 	}
 
+	@Override
+	public void setFluid(@Nullable FluidStack fluid) {
+		super.setFluid(fluid);
+		changeVersion++;
+	}
+
+	@Override
+	public FluidTank readFromNBT(NBTTagCompound nbt) {
+		FluidTank tank = super.readFromNBT(nbt);
+		changeVersion++;
+		return tank;
+	}
+
 	@Override
 	public String toString() {
 		return String.format("Tank: %s, %d/%d", fluid != null && fluid.getFluid() != null ? fluid.getFluid().getName() : "Empty", getFluidAmount(), getCapacity());
@@ -121,6 +146,7 @@ public class StandardTank extends FluidTank implements IStreamable {
 	@Override
 	public void readData(PacketBufferForestry data) throws IOException {
 		fluid = data.readFluidStack();
+		changeVersion++;
 	}
 
 	@SideOnly(Side.CLIENT)
@@ -29,6 +29,8 @@ import forestry.core.network.packets.PacketTankLevelUpdate;
 import forestry.core.render.EnumTankLevel;
 import forestry.core.tiles.ILiquidTankTile;
 import forestry.core.tiles.IRenderableTile;
+import forestry.core.tiles.TileForestry;
+import forestry.core.tiles.TileScheduler;
 import forestry.core.utils.NBTUtilForestry;
 import forestry.core.utils.NBTUtilForestry.NBTList;
 import forestry.core.utils.NetworkUtil;
@@ -229,6 +231,9 @@ public class TankManager implements ITankManager, ITankUpdateHandler, IStreamabl
 
 	@Override
 	public void updateTankLevels(StandardTank tank) {
+		if (tile instanceof TileForestry) {
+			((TileForestry) tile).wakeUp(TileScheduler.WakeCondition.INVENTORY_CHANGE);
+		}
 		updateTankLevels(tank, true);
 	}
 
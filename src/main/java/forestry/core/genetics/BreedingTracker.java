@@ -11,10 +11,12 @@
 package forestry.core.genetics;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 import com.mojang.authlib.GameProfile;
@@ -24,12 +26,13 @@ import forestry.api.genetics.IAlleleSpecies;
 import forestry.api.genetics.IBreedingTracker;
 import forestry.api.genetics.IIndividual;
 import forestry.api.genetics.IMutation;
-import forestry.api.genetics.ISpeciesRoot;
 import forestry.core.network.packets.PacketGenomeTrackerSync;
 import forestry.core.utils.NetworkUtil;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTTagString;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldSavedData;
 import net.minecraftforge.common.MinecraftForge;
@@ -37,27 +40,37 @@ import net.minecraftforge.common.util.FakePlayer;
 
 public abstract class BreedingTracker extends WorldSavedData implements IBreedingTracker {
 
+	private static final String SPECIES_LIST_KEY = "Species";
+	private static final String MUTATIONS_LIST_KEY = "Mutations";
+	private static final String RESEARCHED_LIST_KEY = "Researched";
+	private static final String MODE_NAME_KEY = "BMS";
+	private static final Collection<String> emptyStringCollection = Collections.emptyList();
+
+	/* Keys of the old format, which stored every value under its own key. Only read for compatibility. */
 	private static final String SPECIES_COUNT_KEY = "SpeciesCount";
 	private static final String MUTATIONS_COUNT_KEY = "MutationsCount";
 	private static final String RESEARCHED_COUNT_KEY = "ResearchedCount";
 	private static final String SPECIES_KEY = "SD";
 	private static final String MUTATIONS_KEY = "MD";
 	private static final String RESEARCHED_KEY = "RD";
-	private static final String MODE_NAME_KEY = "BMS";
-	private static final String MUTATION_FORMAT = "%s-%s=%s";
-	private static final Collection<String> emptyStringCollection = Collections.emptyList();
 
 	public static final String TYPE_KEY = "TYPE";
 
 	private final Set<String> discoveredSpecies = new HashSet<>();
-	private final Set<String> discoveredMutations = new HashSet<>();
-	private final Set<String> researchedMutations = new HashSet<>();
+	/* Mutations are tracked by their id in the mutation index of the species root. */
+	private final BitSet discoveredMutations = new BitSet();
+	private final BitSet researchedMutations = new BitSet();
+	/* Names of tracked mutations that are not registered in this session. They are kept so they don't get lost on save. */
+	private final Set<String> unknownDiscoveredMutations = new HashSet<>();
+	private final Set<String> unknownResearchedMutations = new HashSet<>();
 	private String modeName;
 
 	@Nullable
 	private GameProfile username;
 	@Nullable
 	private World world;
+	@Nullable
+	private SpeciesRoot speciesRoot;
 
 	protected BreedingTracker(String s, String defaultModeName) {
 		super(s);
@@ -144,15 +157,29 @@ public abstract class BreedingTracker extends WorldSavedData implements IBreedin
 			modeName = nbttagcompound.getString(MODE_NAME_KEY);
 		}
 
-		readValuesFromNBT(nbttagcompound, discoveredSpecies, SPECIES_COUNT_KEY, SPECIES_KEY);
-		readValuesFromNBT(nbttagcompound, discoveredMutations, MUTATIONS_COUNT_KEY, MUTATIONS_KEY);
-		readValuesFromNBT(nbttagcompound, researchedMutations, RESEARCHED_COUNT_KEY, RESEARCHED_KEY);
+		readValuesFromNBT(nbttagcompound, discoveredSpecies, SPECIES_LIST_KEY, SPECIES_COUNT_KEY, SPECIES_KEY);
+
+		MutationIndex mutationIndex = getSpeciesRoot().getMutationIndex();
+		Set<String> mutations = new HashSet<>();
+		readValuesFromNBT(nbttagcompound, mutations, MUTATIONS_LIST_KEY, MUTATIONS_COUNT_KEY, MUTATIONS_KEY);
+		for (String mutation : mutations) {
+			addMutation(mutationIndex, mutation, discoveredMutations, unknownDiscoveredMutations);
+		}
+
+		Set<String> researched = new HashSet<>();
+		readValuesFromNBT(nbttagcompound, researched, RESEARCHED_LIST_KEY, RESEARCHED_COUNT_KEY, RESEARCHED_KEY);
+		for (String mutation : researched) {
+			addMutation(mutationIndex, mutation, researchedMutations, unknownResearchedMutations);
+		}
 	}
 
 
 	@Override
 	public NBTTagCompound writeToNBT(NBTTagCompound nbttagcompound) {
-		writeToNBT(nbttagcompound, discoveredSpecies, discoveredMutations, researchedMutations);
+		MutationIndex mutationIndex = getSpeciesRoot().getMutationIndex();
+		Collection<String> mutations = getMutationNames(mutationIndex, discoveredMutations, unknownDiscoveredMutations);
+		Collection<String> researched = getMutationNames(mutationIndex, researchedMutations, unknownResearchedMutations);
+		writeToNBT(nbttagcompound, discoveredSpecies, mutations, researched);
 		return nbttagcompound;
 	}
 
@@ -163,17 +190,25 @@ public abstract class BreedingTracker extends WorldSavedData implements IBreedin
 
 		nbtTagCompound.setString(TYPE_KEY, speciesRootUID());
 
-		writeValuesToNBT(nbtTagCompound, discoveredSpecies, SPECIES_COUNT_KEY, SPECIES_KEY);
-		writeValuesToNBT(nbtTagCompound, discoveredMutations, MUTATIONS_COUNT_KEY, MUTATIONS_KEY);
-		writeValuesToNBT(nbtTagCompound, researchedMutations, RESEARCHED_COUNT_KEY, RESEARCHED_KEY);
+		writeValuesToNBT(nbtTagCompound, discoveredSpecies, SPECIES_LIST_KEY);
+		writeValuesToNBT(nbtTagCompound, discoveredMutations, MUTATIONS_LIST_KEY);
+		writeValuesToNBT(nbtTagCompound, researchedMutations, RESEARCHED_LIST_KEY);
 	}
 
-	private static void readValuesFromNBT(NBTTagCompound nbttagcompound, Set<String> values, String countKey, String key) {
-		if (nbttagcompound.hasKey(countKey)) {
-			final int count = nbttagcompound.getInteger(countKey);
+	private static void readValuesFromNBT(NBTTagCompound nbttagcompound, Set<String> values, String listKey, String legacyCountKey, String legacyKey) {
+		if (nbttagcompound.hasKey(listKey)) {
+			NBTTagList list = nbttagcompound.getTagList(listKey, 8);
+			for (int i = 0; i < list.tagCount(); i++) {
+				String value = list.getStringTagAt(i);
+				if (!value.isEmpty()) {
+					values.add(value);
+				}
+			}
+		} else if (nbttagcompound.hasKey(legacyCountKey)) {
+			final int count = nbttagcompound.getInteger(legacyCountKey);
 			for (int i = 0; i < count; i++) {
-				if (nbttagcompound.hasKey(key + i)) {
-					String value = nbttagcompound.getString(key + i);
+				if (nbttagcompound.hasKey(legacyKey + i)) {
+					String value = nbttagcompound.getString(legacyKey + i);
 					if (!value.isEmpty()) {
 						values.add(value);
 					}
@@ -182,44 +217,82 @@ public abstract class BreedingTracker extends WorldSavedData implements IBreedin
 		}
 	}
 
-	private static void writeValuesToNBT(NBTTagCompound nbttagcompound, Collection<String> values, String countKey, String key) {
-		final int count = values.size();
-		nbttagcompound.setInteger(countKey, count);
-		Iterator<String> iterator = values.iterator();
-		for (int i = 0; i < count; i++) {
-			String value = iterator.next();
+	private static void writeValuesToNBT(NBTTagCompound nbttagcompound, Collection<String> values, String listKey) {
+		NBTTagList list = new NBTTagList();
+		for (String value : values) {
 			if (value != null && !value.isEmpty()) {
-				nbttagcompound.setString(key + i, value);
+				list.appendTag(new NBTTagString(value));
 			}
 		}
+		nbttagcompound.setTag(listKey, list);
+	}
+
+	private SpeciesRoot getSpeciesRoot() {
+		if (speciesRoot == null) {
+			speciesRoot = (SpeciesRoot) AlleleManager.alleleRegistry.getSpeciesRoot(speciesRootUID());
+		}
+		return speciesRoot;
 	}
 
-	private static String getMutationString(IMutation mutation) {
-		String species0 = mutation.getAllele0().getUID();
-		String species1 = mutation.getAllele1().getUID();
-		String resultSpecies = mutation.getTemplate()[0].getUID();
-		return String.format(MUTATION_FORMAT, species0, species1, resultSpecies);
+	private static void addMutation(MutationIndex mutationIndex, String mutationName, BitSet mutations, Set<String> unknownMutations) {
+		int id = mutationIndex.getId(mutationName);
+		if (id >= 0) {
+			mutations.set(id);
+		} else {
+			unknownMutations.add(mutationName);
+		}
+	}
+
+	private static Collection<String> getMutationNames(MutationIndex mutationIndex, BitSet mutations, Set<String> unknownMutations) {
+		List<String> names = new ArrayList<>(mutations.cardinality() + unknownMutations.size());
+		for (int id = mutations.nextSetBit(0); id >= 0; id = mutations.nextSetBit(id + 1)) {
+			IMutation mutation = mutationIndex.getMutation(id);
+			if (mutation != null) {
+				names.add(MutationIndex.getName(mutation));
+			}
+		}
+		names.addAll(unknownMutations);
+		return names;
+	}
+
+	/**
+	 * @return true if the mutation was not tracked before
+	 */
+	private boolean trackMutation(IMutation mutation, BitSet mutations, Set<String> unknownMutations) {
+		int id = getSpeciesRoot().getMutationIndex().getId(mutation);
+		if (id >= 0) {
+			if (mutations.get(id)) {
+				return false;
+			}
+			mutations.set(id);
+			return true;
+		}
+		return unknownMutations.add(MutationIndex.getName(mutation));
+	}
+
+	private boolean isTracked(IMutation mutation, BitSet mutations, Set<String> unknownMutations) {
+		int id = getSpeciesRoot().getMutationIndex().getId(mutation);
+		if (id >= 0) {
+			return mutations.get(id);
+		}
+		return unknownMutations.contains(MutationIndex.getName(mutation));
 	}
 
 	@Override
 	public void registerMutation(IMutation mutation) {
-		String mutationString = getMutationString(mutation);
-		if (!discoveredMutations.contains(mutationString)) {
-			discoveredMutations.add(mutationString);
+		if (trackMutation(mutation, discoveredMutations, unknownDiscoveredMutations)) {
 			markDirty();
 
-			ISpeciesRoot speciesRoot = AlleleManager.alleleRegistry.getSpeciesRoot(speciesRootUID());
-			ForestryEvent event = new ForestryEvent.MutationDiscovered(speciesRoot, username, mutation, this);
+			ForestryEvent event = new ForestryEvent.MutationDiscovered(getSpeciesRoot(), username, mutation, this);
 			MinecraftForge.EVENT_BUS.post(event);
 
-			syncToPlayer(emptyStringCollection, Collections.singleton(mutationString), emptyStringCollection);
+			syncToPlayer(emptyStringCollection, Collections.singleton(MutationIndex.getName(mutation)), emptyStringCollection);
 		}
 	}
 
 	@Override
 	public boolean isDiscovered(IMutation mutation) {
-		String mutationString = getMutationString(mutation);
-		return discoveredMutations.contains(mutationString) || researchedMutations.contains(mutationString);
+		return isTracked(mutation, discoveredMutations, unknownDiscoveredMutations) || isTracked(mutation, researchedMutations, unknownResearchedMutations);
 	}
 
 	@Override
@@ -243,8 +316,7 @@ public abstract class BreedingTracker extends WorldSavedData implements IBreedin
 		if (!discoveredSpecies.contains(species.getUID())) {
 			discoveredSpecies.add(species.getUID());
 
-			ISpeciesRoot speciesRoot = AlleleManager.alleleRegistry.getSpeciesRoot(speciesRootUID());
-			ForestryEvent event = new ForestryEvent.SpeciesDiscovered(speciesRoot, username, species, this);
+			ForestryEvent event = new ForestryEvent.SpeciesDiscovered(getSpeciesRoot(), username, species, this);
 			MinecraftForge.EVENT_BUS.post(event);
 
 			syncToPlayer(Collections.singleton(species.getUID()), emptyStringCollection, emptyStringCollection);
@@ -253,20 +325,17 @@ public abstract class BreedingTracker extends WorldSavedData implements IBreedin
 
 	@Override
 	public void researchMutation(IMutation mutation) {
-		String mutationString = getMutationString(mutation);
-		if (!researchedMutations.contains(mutationString)) {
-			researchedMutations.add(mutationString);
+		if (trackMutation(mutation, researchedMutations, unknownResearchedMutations)) {
 			markDirty();
 
 			registerMutation(mutation);
 
-			syncToPlayer(emptyStringCollection, emptyStringCollection, Collections.singleton(mutationString));
+			syncToPlayer(emptyStringCollection, emptyStringCollection, Collections.singleton(MutationIndex.getName(mutation)));
 		}
 	}
 
 	@Override
 	public boolean isResearched(IMutation mutation) {
-		String mutationString = getMutationString(mutation);
-		return researchedMutations.contains(mutationString);
+		return isTracked(mutation, researchedMutations, unknownResearchedMutations);
 	}
 }
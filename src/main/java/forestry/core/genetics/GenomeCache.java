@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.genetics;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import com.google.common.collect.MapMaker;
+import forestry.api.genetics.IGenome;
+import net.minecraft.nbt.NBTTagCompound;
+
+/**
+ * Canonicalizes genomes, so all individuals with the same chromosomes share one genome instance.
+ * <p>
+ * Genomes are keyed by the content of their saved chromosomes, which is cheaper to compare than decoding every
+ * chromosome again. The genomes are only weakly referenced and are dropped once no individual uses them anymore.
+ * This is only safe because genomes are immutable.
+ */
+public class GenomeCache<G extends IGenome> {
+	private final ConcurrentMap<NBTTagCompound, G> genomesByNbt = new MapMaker().weakValues().makeMap();
+	private final ConcurrentMap<String, G> templateGenomes = new MapMaker().weakValues().makeMap();
+
+	/**
+	 * @param genomeNbt the saved genome. It is copied if it has to be stored as a key, so it may be changed later.
+	 * @param factory   creates the genome from the saved genome if it is not cached yet
+	 */
+	public G getGenome(NBTTagCompound genomeNbt, Function<NBTTagCompound, G> factory) {
+		G genome = genomesByNbt.get(genomeNbt);
+		if (genome == null) {
+			genome = factory.apply(genomeNbt);
+			G cached = genomesByNbt.putIfAbsent(genomeNbt.copy(), genome);
+			if (cached != null) {
+				return cached;
+			}
+		}
+		return genome;
+	}
+
+	/**
+	 * @param speciesUID the uid of the species whose default template the genome is made of
+	 * @param factory    creates the template genome of the species if it is not cached yet
+	 */
+	public G getTemplateGenome(String speciesUID, Function<String, G> factory) {
+		G genome = templateGenomes.get(speciesUID);
+		if (genome == null) {
+			genome = factory.apply(speciesUID);
+			G cached = templateGenomes.putIfAbsent(speciesUID, genome);
+			if (cached != null) {
+				return cached;
+			}
+		}
+		return genome;
+	}
+
+	public int size() {
+		return genomesByNbt.size() + templateGenomes.size();
+	}
+}
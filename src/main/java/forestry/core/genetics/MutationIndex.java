@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.genetics;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableMap;
+import forestry.api.genetics.IMutation;
+
+/**
+ * Immutable lookup tables over the registered mutations of a {@link SpeciesRoot}.
+ * <p>
+ * Mutations are indexed by the uids of both parent species, in both orders, and get a dense id which is their
+ * position in the registration order of the species root. Ids are only valid for the current session and must
+ * never be saved.
+ */
+final class MutationIndex {
+	private static final IMutation[] EMPTY = new IMutation[0];
+
+	private final Map<String, Map<String, IMutation[]>> mutationsBySpecies;
+	private final Map<IMutation, Integer> ids;
+	private final Map<String, Integer> idsByName;
+	private final IMutation[] mutations;
+
+	public MutationIndex(List<? extends IMutation> registeredMutations) {
+		this.mutations = registeredMutations.toArray(new IMutation[registeredMutations.size()]);
+		this.ids = new IdentityHashMap<>();
+		this.idsByName = new HashMap<>();
+
+		Map<String, Map<String, List<IMutation>>> mutationsBySpecies = new HashMap<>();
+		for (int id = 0; id < mutations.length; id++) {
+			IMutation mutation = mutations[id];
+			ids.put(mutation, id);
+			idsByName.put(getName(mutation), id);
+
+			String species0UID = mutation.getAllele0().getUID();
+			String species1UID = mutation.getAllele1().getUID();
+			add(mutationsBySpecies, species0UID, species1UID, mutation);
+			if (!species0UID.equals(species1UID)) {
+				add(mutationsBySpecies, species1UID, species0UID, mutation);
+			}
+		}
+
+		ImmutableMap.Builder<String, Map<String, IMutation[]>> index = ImmutableMap.builder();
+		for (Map.Entry<String, Map<String, List<IMutation>>> speciesEntry : mutationsBySpecies.entrySet()) {
+			ImmutableMap.Builder<String, IMutation[]> partners = ImmutableMap.builder();
+			for (Map.Entry<String, List<IMutation>> partnerEntry : speciesEntry.getValue().entrySet()) {
+				List<IMutation> partnerMutations = partnerEntry.getValue();
+				partners.put(partnerEntry.getKey(), partnerMutations.toArray(new IMutation[partnerMutations.size()]));
+			}
+			index.put(speciesEntry.getKey(), partners.build());
+		}
+		this.mutationsBySpecies = index.build();
+	}
+
+	private static void add(Map<String, Map<String, List<IMutation>>> mutationsBySpecies, String speciesUID, String partnerUID, IMutation mutation) {
+		Map<String, List<IMutation>> partners = mutationsBySpecies.computeIfAbsent(speciesUID, k -> new HashMap<>());
+		partners.computeIfAbsent(partnerUID, k -> new ArrayList<>()).add(mutation);
+	}
+
+	/**
+	 * @return the mutations of the two species. The returned array must not be modified.
+	 */
+	public IMutation[] getCombinations(String species0UID, String species1UID) {
+		Map<String, IMutation[]> partners = mutationsBySpecies.get(species0UID);
+		if (partners == null) {
+			return EMPTY;
+		}
+		IMutation[] combinations = partners.get(species1UID);
+		if (combinations == null) {
+			return EMPTY;
+		}
+		return combinations;
+	}
+
+	/**
+	 * @return the id of the mutation or -1 if the mutation is not registered
+	 */
+	public int getId(IMutation mutation) {
+		Integer id = ids.get(mutation);
+		if (id == null) {
+			return -1;
+		}
+		return id;
+	}
+
+	/**
+	 * @return the id of the mutation with the given name or -1 if no registered mutation has that name
+	 */
+	public int getId(String name) {
+		Integer id = idsByName.get(name);
+		if (id == null) {
+			return -1;
+		}
+		return id;
+	}
+
+	@Nullable
+	public IMutation getMutation(int id) {
+		if (id < 0 || id >= mutations.length) {
+			return null;
+		}
+		return mutations[id];
+	}
+
+	/**
+	 * @return the name of the mutation, which stays the same between sessions
+	 */
+	public static String getName(IMutation mutation) {
+		String species0 = mutation.getAllele0().getUID();
+		String species1 = mutation.getAllele1().getUID();
+		String resultSpecies = mutation.getTemplate()[0].getUID();
+		return species0 + '-' + species1 + '=' + resultSpecies;
+	}
+}
@@ -19,9 +19,11 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.function.Function;
 import javax.annotation.Nullable;
 
 import com.google.common.base.Preconditions;
+import com.mojang.authlib.GameProfile;
 import forestry.api.genetics.IAllele;
 import forestry.api.genetics.IAlleleSpecies;
 import forestry.api.genetics.IChromosome;
@@ -31,6 +33,7 @@ import forestry.api.genetics.IIndividualTranslator;
 import forestry.api.genetics.IMutation;
 import forestry.api.genetics.ISpeciesRoot;
 import net.minecraft.item.ItemStack;
+import net.minecraft.world.World;
 
 public abstract class SpeciesRoot implements ISpeciesRoot {
 	/* TRANSLATORS */
@@ -105,7 +108,70 @@ public abstract class SpeciesRoot implements ISpeciesRoot {
 		return (IIndividualTranslator<I, O>) translators.get(translatorKey);
 	}
 
+	/* BREEDING TRACKERS */
+	/**
+	 * Trackers loaded from the world storage, indexed by world and player. The common tracker uses the null player.
+	 */
+	private final Map<World, Map<GameProfile, BreedingTracker>> breedingTrackers = new HashMap<>();
+
+	/**
+	 * Returns the cached tracker of the player, loads it from the world storage or creates it if there is none yet.
+	 */
+	protected <T extends BreedingTracker> T getBreedingTracker(World world, @Nullable GameProfile player, String filePrefix, Class<T> trackerClass, Function<String, T> trackerFactory) {
+		synchronized (breedingTrackers) {
+			Map<GameProfile, BreedingTracker> worldTrackers = breedingTrackers.computeIfAbsent(world, k -> new HashMap<>());
+			BreedingTracker tracker = worldTrackers.get(player);
+			if (tracker == null) {
+				String filename = filePrefix + (player == null ? "common" : player.getId());
+				tracker = (BreedingTracker) world.loadData(trackerClass, filename);
+
+				// Create a tracker if there is none yet.
+				if (tracker == null) {
+					tracker = trackerFactory.apply(filename);
+					world.setData(filename, tracker);
+				}
+
+				tracker.setUsername(player);
+				worldTrackers.put(player, tracker);
+			}
+			// all dimensions share the storage of the overworld and with it the tracker, so it syncs through the world of the last caller
+			tracker.setWorld(world);
+			return trackerClass.cast(tracker);
+		}
+	}
+
+	/**
+	 * Drops the cached trackers of the world.
+	 */
+	public void onWorldUnload(World world) {
+		synchronized (breedingTrackers) {
+			breedingTrackers.remove(world);
+		}
+	}
+
 	/* MUTATIONS */
+	/**
+	 * Built on first use after registration and dropped whenever another mutation gets registered.
+	 */
+	@Nullable
+	private volatile MutationIndex mutationIndex;
+
+	/**
+	 * Must be called by implementations whenever the registered mutations change.
+	 */
+	protected void invalidateMutationIndex() {
+		mutationIndex = null;
+	}
+
+	MutationIndex getMutationIndex() {
+		MutationIndex index = mutationIndex;
+		if (index == null) {
+			index = new MutationIndex(getMutations(false));
+			mutationIndex = index;
+		}
+		return index;
+	}
+
 	@Override
 	public List<IMutation> getCombinations(IAllele other) {
 		List<IMutation> combinations = new ArrayList<>();
@@ -120,18 +186,12 @@ public abstract class SpeciesRoot implements ISpeciesRoot {
 
 	@Override
 	public List<IMutation> getCombinations(IAlleleSpecies parentSpecies0, IAlleleSpecies parentSpecies1, boolean shuffle) {
-		List<IMutation> combinations = new ArrayList<>();
-
-		String parentSpecies1UID = parentSpecies1.getUID();
-		for (IMutation mutation : getMutations(shuffle)) {
-			if (mutation.isPartner(parentSpecies0)) {
-				IAllele partner = mutation.getPartner(parentSpecies0);
-				if (partner.getUID().equals(parentSpecies1UID)) {
-					combinations.add(mutation);
-				}
-			}
+		IMutation[] mutations = getMutationIndex().getCombinations(parentSpecies0.getUID(), parentSpecies1.getUID());
+		List<IMutation> combinations = new ArrayList<>(Arrays.asList(mutations));
+		// only the returned copy gets shuffled, the index is never modified
+		if (shuffle) {
+			Collections.shuffle(combinations);
 		}
-
 		return combinations;
 	}
 
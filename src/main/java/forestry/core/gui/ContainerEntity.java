@@ -10,11 +10,7 @@
  ******************************************************************************/
 package forestry.core.gui;
 
-import javax.annotation.Nullable;
-
-import com.google.common.collect.ImmutableSet;
 import forestry.api.core.IErrorLogicSource;
-import forestry.api.core.IErrorState;
 import forestry.core.network.packets.PacketErrorUpdateEntity;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.EntityPlayer;
@@ -23,8 +19,7 @@ import net.minecraft.inventory.IInventory;
 
 public class ContainerEntity<T extends Entity & IInventory> extends ContainerForestry {
 	protected final T entity;
-	@Nullable
-	private ImmutableSet<IErrorState> previousErrorStates;
+	private final ErrorStateTracker errorStateTracker = new ErrorStateTracker();
 
 	protected ContainerEntity(T entity) {
 		this.entity = entity;
@@ -51,14 +46,10 @@ public class ContainerEntity<T extends Entity & IInventory> extends ContainerFor
 
 		if (entity instanceof IErrorLogicSource) {
 			IErrorLogicSource errorLogicSource = (IErrorLogicSource) entity;
-			ImmutableSet<IErrorState> errorStates = errorLogicSource.getErrorLogic().getErrorStates();
-
-			if (previousErrorStates == null || !errorStates.equals(previousErrorStates)) {
+			if (errorStateTracker.update(errorLogicSource.getErrorLogic())) {
 				PacketErrorUpdateEntity packet = new PacketErrorUpdateEntity(entity, errorLogicSource);
 				sendPacketToListeners(packet);
 			}
-
-			previousErrorStates = errorStates;
 		}
 	}
 }
@@ -10,11 +10,7 @@
  ******************************************************************************/
 package forestry.core.gui;
 
-import javax.annotation.Nullable;
-
-import com.google.common.collect.ImmutableSet;
 import forestry.api.core.IErrorLogicSource;
-import forestry.api.core.IErrorState;
 import forestry.core.network.packets.PacketErrorUpdate;
 import forestry.core.network.packets.PacketGuiEnergy;
 import forestry.core.network.packets.PacketGuiUpdate;
@@ -30,8 +26,7 @@ import net.minecraftforge.fml.relauncher.SideOnly;
 
 public abstract class ContainerTile<T extends TileEntity> extends ContainerForestry {
 	protected final T tile;
-	@Nullable
-	private ImmutableSet<IErrorState> previousErrorStates;
+	private final ErrorStateTracker errorStateTracker = new ErrorStateTracker();
 	private int previousEnergyManagerData = 0;
 	private int previousWorkCounter = 0;
 	private int previousTicksPerWorkCycle = 0;
@@ -62,14 +57,10 @@ public abstract class ContainerTile<T extends TileEntity> extends ContainerFores
 
 		if (tile instanceof IErrorLogicSource) {
 			IErrorLogicSource errorLogicSource = (IErrorLogicSource) tile;
-			ImmutableSet<IErrorState> errorStates = errorLogicSource.getErrorLogic().getErrorStates();
-
-			if (previousErrorStates == null || !errorStates.equals(previousErrorStates)) {
+			if (errorStateTracker.update(errorLogicSource.getErrorLogic())) {
 				PacketErrorUpdate packet = new PacketErrorUpdate(tile, errorLogicSource);
 				sendPacketToListeners(packet);
 			}
-
-			previousErrorStates = errorStates;
 		}
 
 		if (tile instanceof IPowerHandler) {
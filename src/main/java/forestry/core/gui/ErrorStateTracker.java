@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.gui;
+
+import javax.annotation.Nullable;
+import java.util.BitSet;
+
+import com.google.common.collect.ImmutableSet;
+import forestry.api.core.IErrorLogic;
+import forestry.api.core.IErrorState;
+import forestry.core.errors.ErrorLogic;
+
+/**
+ * Remembers the error states that a container sent to its listeners, so they are only sent again after they changed.
+ * The error logics of Forestry are only compared after their change version changed, other error logics are compared
+ * by their set of error states every time.
+ */
+class ErrorStateTracker {
+	@Nullable
+	private BitSet sentErrors;
+	private int sentChangeVersion;
+	@Nullable
+	private ImmutableSet<IErrorState> sentErrorStates;
+
+	/**
+	 * @return true if the error states have to be sent
+	 */
+	public boolean update(IErrorLogic errorLogic) {
+		if (errorLogic instanceof ErrorLogic) {
+			ErrorLogic forestryErrorLogic = (ErrorLogic) errorLogic;
+			int changeVersion = forestryErrorLogic.getChangeVersion();
+			if (sentErrors == null) {
+				sentErrors = new BitSet();
+			} else if (changeVersion == sentChangeVersion || forestryErrorLogic.hasSameErrors(sentErrors)) {
+				sentChangeVersion = changeVersion;
+				return false;
+			}
+			sentChangeVersion = changeVersion;
+			forestryErrorLogic.copyErrors(sentErrors);
+			return true;
+		}
+
+		ImmutableSet<IErrorState> errorStates = errorLogic.getErrorStates();
+		boolean changed = sentErrorStates == null || !errorStates.equals(sentErrorStates);
+		sentErrorStates = errorStates;
+		return changed;
+	}
+}
@@ -34,6 +34,8 @@ public class InventoryAdapter implements IInventoryAdapter, IStreamable {
 	private boolean allowAutomation = true;
 	@Nullable
 	private int[] slotMap;
+	/* Incremented on every change of the contents that goes through this adapter, see getChangeVersion() */
+	private int changeVersion;
 
 	//private boolean debug = false;
 
@@ -75,6 +77,14 @@ public class InventoryAdapter implements IInventoryAdapter, IStreamable {
 		return copy;
 	}
 
+	/**
+	 * @return a number that changes whenever the contents of this inventory were changed through this adapter or the
+	 * inventory was marked dirty
+	 */
+	public int getChangeVersion() {
+		return changeVersion;
+	}
+
 	/* IINVENTORY */
 	@Override
 	public boolean isEmpty() {
@@ -93,12 +103,17 @@ public class InventoryAdapter implements IInventoryAdapter, IStreamable {
 
 	@Override
 	public ItemStack decrStackSize(int slotId, int count) {
-		return inventory.decrStackSize(slotId, count);
+		ItemStack removed = inventory.decrStackSize(slotId, count);
+		if (!removed.isEmpty()) {
+			changeVersion++;
+		}
+		return removed;
 	}
 
 	@Override
 	public void setInventorySlotContents(int slotId, ItemStack itemstack) {
 		inventory.setInventorySlotContents(slotId, itemstack);
+		changeVersion++;
 	}
 
 	@Override
@@ -114,10 +129,12 @@ public class InventoryAdapter implements IInventoryAdapter, IStreamable {
 	@Override
 	public void markDirty() {
 		inventory.markDirty();
+		changeVersion++;
 	}
 
 	@Override
 	public ItemStack removeStackFromSlot(int slotIndex) {
+		changeVersion++;
 		return inventory.removeStackFromSlot(slotIndex);
 	}
 
@@ -190,6 +207,7 @@ public class InventoryAdapter implements IInventoryAdapter, IStreamable {
 	@Override
 	public void readFromNBT(NBTTagCompound nbttagcompound) {
 		InventoryUtil.readFromNBT(this, nbttagcompound);
+		changeVersion++;
 	}
 
 	@Override
@@ -206,6 +224,7 @@ public class InventoryAdapter implements IInventoryAdapter, IStreamable {
 	@Override
 	public void readData(PacketBufferForestry data) throws IOException {
 		data.readInventory(inventory);
+		changeVersion++;
 	}
 
 	/* FIELDS */
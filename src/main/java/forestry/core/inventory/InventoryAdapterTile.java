@@ -10,6 +10,9 @@
  ******************************************************************************/
 package forestry.core.inventory;
 
+import forestry.core.tiles.TileForestry;
+import forestry.core.tiles.TileScheduler;
+
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
@@ -33,6 +36,34 @@ public class InventoryAdapterTile<T extends TileEntity> extends InventoryAdapter
 		tile.markDirty();
 	}
 
+	@Override
+	public ItemStack decrStackSize(int slotId, int count) {
+		ItemStack removed = super.decrStackSize(slotId, count);
+		if (!removed.isEmpty()) {
+			onContentsChanged();
+		}
+		return removed;
+	}
+
+	@Override
+	public void setInventorySlotContents(int slotId, ItemStack itemstack) {
+		super.setInventorySlotContents(slotId, itemstack);
+		onContentsChanged();
+	}
+
+	@Override
+	public ItemStack removeStackFromSlot(int slotIndex) {
+		ItemStack removed = super.removeStackFromSlot(slotIndex);
+		onContentsChanged();
+		return removed;
+	}
+
+	private void onContentsChanged() {
+		if (tile instanceof TileForestry) {
+			((TileForestry) tile).wakeUp(TileScheduler.WakeCondition.INVENTORY_CHANGE);
+		}
+	}
+
 	@Override
 	public boolean canExtractItem(int slotIndex, ItemStack stack, EnumFacing side) {
 		return false;
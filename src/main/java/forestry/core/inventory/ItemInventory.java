@@ -19,6 +19,7 @@ import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.inventory.IInventory;
 import net.minecraft.inventory.ItemStackHelper;
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.EnumHand;
@@ -41,6 +42,11 @@ public abstract class ItemInventory implements IInventory, IFilterSlotDelegate,
 	protected final EntityPlayer player;
 	private final ItemStack parent;
 	private final NonNullList<ItemStack> inventoryStacks;
+	private boolean writesDeferred;
+	private boolean hasUnwrittenChanges;
+	/* The slots tag of the parent item that this inventory last read or created */
+	@Nullable
+	private NBTBase slotsTag;
 
 	public ItemInventory(EntityPlayer player, int size, ItemStack parent) {
 		Preconditions.checkArgument(!parent.isEmpty(), "Parent cannot be empty.");
@@ -56,6 +62,7 @@ public abstract class ItemInventory implements IInventory, IFilterSlotDelegate,
 		}
 		setUID(nbt); // Set a uid to identify the itemStack on SMP
 
+		slotsTag = nbt.getTag(KEY_SLOTS);
 		NBTTagCompound nbtSlots = nbt.getCompoundTag(KEY_SLOTS);
 		for (int i = 0; i < inventoryStacks.size(); i++) {
 			String slotKey = getSlotNBTKey(i);
@@ -145,6 +152,34 @@ public abstract class ItemInventory implements IInventory, IFilterSlotDelegate,
 		}
 
 		nbt.setTag(KEY_SLOTS, slotsNbt);
+		slotsTag = slotsNbt;
+	}
+
+	/**
+	 * Keeps all following changes of the contents in memory until {@link #writeChanges()} is called,
+	 * instead of writing them to the parent item after every change.
+	 */
+	public final void deferWrites() {
+		writesDeferred = true;
+	}
+
+	/**
+	 * Writes the changes that were deferred by {@link #deferWrites()} to the parent item.
+	 */
+	public final void writeChanges() {
+		if (hasUnwrittenChanges) {
+			hasUnwrittenChanges = false;
+			writeToParentNBT();
+		}
+	}
+
+	/**
+	 * @return false if the contents of the parent item were replaced since this inventory read or wrote them.
+	 * Changes that another inventory of the same item writes into the existing contents are not detected.
+	 */
+	public final boolean isInSyncWithParent() {
+		NBTTagCompound nbt = parent.getTagCompound();
+		return nbt != null && nbt.getTag(KEY_SLOTS) == slotsTag;
 	}
 
 	private static String getSlotNBTKey(int i) {
@@ -181,6 +216,11 @@ public abstract class ItemInventory implements IInventory, IFilterSlotDelegate,
 	public void setInventorySlotContents(int index, ItemStack itemstack) {
 		inventoryStacks.set(index, itemstack);
 
+		if (writesDeferred) {
+			hasUnwrittenChanges = true;
+			return;
+		}
+
 		ItemStack parent = getParent();
 
 		NBTTagCompound nbt = parent.getTagCompound();
@@ -193,6 +233,7 @@ public abstract class ItemInventory implements IInventory, IFilterSlotDelegate,
 		if (!nbt.hasKey(KEY_SLOTS)) {
 			slotNbt = new NBTTagCompound();
 			nbt.setTag(KEY_SLOTS, slotNbt);
+			slotsTag = slotNbt;
 		} else {
 			slotNbt = nbt.getCompoundTag(KEY_SLOTS);
 		}
@@ -236,7 +277,11 @@ public abstract class ItemInventory implements IInventory, IFilterSlotDelegate,
 
 	@Override
 	public final void markDirty() {
-		writeToParentNBT();
+		if (writesDeferred) {
+			hasUnwrittenChanges = true;
+		} else {
+			writeToParentNBT();
+		}
 	}
 
 	@Override
@@ -1,11 +1,15 @@
 package forestry.core.multiblock;
 
 import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 
@@ -16,6 +20,7 @@ import forestry.core.utils.Translator;
 import net.minecraft.block.Block;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
@@ -46,6 +51,11 @@ public abstract class MultiblockControllerBase implements IMultiblockControllerI
 
 	protected HashSet<IMultiblockComponent> connectedParts;
 
+	/**
+	 * The connected parts by their coordinates, so neighboring parts can be found without looking up tiles in the world.
+	 */
+	private final Map<BlockPos, IMultiblockComponent> partsByPos = new HashMap<>();
+
 	/**
 	 * This is a deterministically-picked coordinate that identifies this
 	 * multiblock uniquely in its dimension.
@@ -75,6 +85,21 @@ public abstract class MultiblockControllerBase implements IMultiblockControllerI
 	 */
 	private boolean shouldCheckForDisconnections;
 
+	/**
+	 * The coordinates of the parts that were removed since the last check for disconnections.
+	 */
+	private final Set<BlockPos> removedPositions = new HashSet<>();
+
+	/**
+	 * Set when the next check for disconnections has to validate all parts, instead of only searching near the removed parts.
+	 */
+	private boolean requiresFullCheck;
+
+	/**
+	 * The coordinates of the parts that were added or removed since the last check if the machine is whole.
+	 */
+	private final Set<BlockPos> changedPositions = new HashSet<>();
+
 	/**
 	 * Set whenever we validate the multiblock
 	 */
@@ -92,6 +117,7 @@ public abstract class MultiblockControllerBase implements IMultiblockControllerI
 		this.maximumCoord = null;
 
 		this.shouldCheckForDisconnections = true;
+		this.requiresFullCheck = true;
 		this.lastValidationException = null;
 	}
 
@@ -119,6 +145,9 @@ public abstract class MultiblockControllerBase implements IMultiblockControllerI
 					world.isRemote ? "CLIENT" : "SERVER", hashCode(), part.hashCode(), coord);
 		}
 
+		partsByPos.put(coord, part);
+		changedPositions.add(coord);
+
 		MultiblockLogic logic = (MultiblockLogic) part.getMultiblockLogic();
 
 		logic.setController(this);
@@ -231,7 +260,12 @@ public abstract class MultiblockControllerBase implements IMultiblockControllerI
 
 		minimumCoord = maximumCoord = null;
 
-		if (referenceCoord != null && referenceCoord.equals(part.getCoordinates())) {
+		BlockPos coord = part.getCoordinates();
+		partsByPos.remove(coord, part);
+		removedPositions.add(coord);
+		changedPositions.add(coord);
+
+		if (referenceCoord != null && referenceCoord.equals(coord)) {
 			referenceCoord = null;
 		}
 
@@ -244,6 +278,9 @@ public abstract class MultiblockControllerBase implements IMultiblockControllerI
 			this.assemblyState = AssemblyState.Paused;
 			this.onMachinePaused();
 		}
+		if (chunkUnloading) {
+			requiresFullCheck = true;
+		}
 
 		// Strip out this part
 		onDetachBlock(part);
@@ -305,6 +342,8 @@ public abstract class MultiblockControllerBase implements IMultiblockControllerI
 		} catch (MultiblockValidationException e) {
 			lastValidationException = e;
 			isWhole = false;
+		} finally {
+			changedPositions.clear();
 		}
 
 		if (isWhole) {
@@ -372,6 +411,9 @@ public abstract class MultiblockControllerBase implements IMultiblockControllerI
 			}
 
 			connectedParts.add(acquiredPart);
+			BlockPos coord = acquiredPart.getCoordinates();
+			partsByPos.put(coord, acquiredPart);
+			changedPositions.add(coord);
 			MultiblockLogic logic = (MultiblockLogic) acquiredPart.getMultiblockLogic();
 			logic.setController(this);
 			this.onBlockAdded(acquiredPart);
@@ -400,6 +442,7 @@ public abstract class MultiblockControllerBase implements IMultiblockControllerI
 		}
 
 		connectedParts.clear();
+		partsByPos.clear();
 	}
 
 	/**
@@ -601,6 +644,14 @@ public abstract class MultiblockControllerBase implements IMultiblockControllerI
 		);
 	}
 
+	/**
+	 * @return the coordinates of the parts that were added or removed since the last check if the machine is whole.
+	 * Cleared after every check.
+	 */
+	protected final Set<BlockPos> getChangedPositions() {
+		return Collections.unmodifiableSet(changedPositions);
+	}
+
 	protected final boolean isCoordInMultiblock(int x, int y, int z) {
 		if (minimumCoord == null || maximumCoord == null) {
 			return false;
@@ -688,7 +739,8 @@ public abstract class MultiblockControllerBase implements IMultiblockControllerI
 			}
 		}
 
-		connectedParts.removeAll(deadParts);
+		removeParts(deadParts);
+		requiresFullCheck = true;
 		Log.warning("[%s] Controller found %d dead parts during an audit, %d parts remain attached", world.isRemote ? "CLIENT" : "SERVER", deadParts.size(), connectedParts.size());
 	}
 
@@ -704,6 +756,15 @@ public abstract class MultiblockControllerBase implements IMultiblockControllerI
 			return Collections.emptySet();
 		}
 
+		if (!requiresFullCheck && isConnectedAfterRemovals()) {
+			removedPositions.clear();
+			shouldCheckForDisconnections = false;
+			if (referenceCoord == null) {
+				selectNewReferenceCoord();
+			}
+			return Collections.emptySet();
+		}
+
 		IChunkProvider chunkProvider = world.getChunkProvider();
 
 		// Invalidate our reference coord, we'll recalculate it shortly
@@ -746,7 +807,7 @@ public abstract class MultiblockControllerBase implements IMultiblockControllerI
 			}
 		}
 
-		connectedParts.removeAll(deadParts);
+		removeParts(deadParts);
 		deadParts.clear();
 
 		if (referencePart == null || isEmpty()) {
@@ -770,14 +831,15 @@ public abstract class MultiblockControllerBase implements IMultiblockControllerI
 			MultiblockLogic partLogic = (MultiblockLogic) part.getMultiblockLogic();
 			partLogic.setVisited();
 
-			List<IMultiblockComponent> nearbyParts = MultiblockUtil.getNeighboringParts(world, part); // Chunk-safe on server, but not on client
-			for (IMultiblockComponent nearbyPart : nearbyParts) {
-				// Ignore different machines
-				MultiblockLogic nearbyPartLogic = (MultiblockLogic) nearbyPart.getMultiblockLogic();
-				if (nearbyPartLogic.getController() != this) {
+			BlockPos partCoord = part.getCoordinates();
+			for (EnumFacing facing : EnumFacing.VALUES) {
+				// Only parts of this machine are in the map, all of them were validated above
+				IMultiblockComponent nearbyPart = partsByPos.get(partCoord.offset(facing));
+				if (nearbyPart == null) {
 					continue;
 				}
 
+				MultiblockLogic nearbyPartLogic = (MultiblockLogic) nearbyPart.getMultiblockLogic();
 				if (!nearbyPartLogic.isVisited()) {
 					nearbyPartLogic.setVisited();
 					partsToCheck.add(nearbyPart);
@@ -797,7 +859,7 @@ public abstract class MultiblockControllerBase implements IMultiblockControllerI
 		}
 
 		// Trim any blocks that were invalid, or were removed.
-		connectedParts.removeAll(deadParts);
+		removeParts(deadParts);
 
 		// Cleanup. Not necessary, really.
 		deadParts.clear();
@@ -809,10 +871,127 @@ public abstract class MultiblockControllerBase implements IMultiblockControllerI
 
 		// We've run the checks from here on out.
 		shouldCheckForDisconnections = false;
+		requiresFullCheck = false;
+		removedPositions.clear();
 
 		return removedParts;
 	}
 
+	/**
+	 * Removes the parts from the connected parts and from the index of their positions.
+	 */
+	private void removeParts(Collection<IMultiblockComponent> parts) {
+		connectedParts.removeAll(parts);
+		for (IMultiblockComponent part : parts) {
+			partsByPos.remove(part.getCoordinates(), part);
+		}
+
+		// The searches rely on the index only holding connected parts.
+		if (partsByPos.size() != connectedParts.size()) {
+			Log.warning("[%s] Controller has %d parts in its position index but %d connected parts, rebuilding the index", world.isRemote ? "CLIENT" : "SERVER", partsByPos.size(), connectedParts.size());
+			partsByPos.clear();
+			for (IMultiblockComponent part : connectedParts) {
+				partsByPos.put(part.getCoordinates(), part);
+			}
+		}
+	}
+
+	/**
+	 * Checks if the parts next to the removed parts are still connected to each other.
+	 * Searches from all of them at once and joins the searches that meet, so only the parts near the removed parts are
+	 * visited as long as the machine was not split.
+	 *
+	 * @return false if a search ran out of parts before it met all others, so the machine was split
+	 */
+	private boolean isConnectedAfterRemovals() {
+		List<BlockPos> seeds = new ArrayList<>();
+		for (BlockPos removedPos : removedPositions) {
+			for (EnumFacing facing : EnumFacing.VALUES) {
+				BlockPos neighborPos = removedPos.offset(facing);
+				if (partsByPos.containsKey(neighborPos) && !seeds.contains(neighborPos)) {
+					seeds.add(neighborPos);
+				}
+			}
+		}
+		if (seeds.size() <= 1) {
+			return true;
+		}
+
+		// the searches that met are joined in a union-find forest
+		int[] joinedSearches = new int[seeds.size()];
+		List<ArrayDeque<BlockPos>> queues = new ArrayList<>(seeds.size());
+		Map<BlockPos, Integer> visitedBy = new HashMap<>();
+		int separateSearches = seeds.size();
+		for (int i = 0; i < seeds.size(); i++) {
+			BlockPos seed = seeds.get(i);
+			joinedSearches[i] = i;
+			ArrayDeque<BlockPos> queue = new ArrayDeque<>();
+			queue.add(seed);
+			queues.add(queue);
+			visitedBy.put(seed, i);
+		}
+
+		boolean searching = true;
+		while (searching) {
+			searching = false;
+			for (int i = 0; i < queues.size(); i++) {
+				ArrayDeque<BlockPos> queue = queues.get(i);
+				BlockPos pos = queue.poll();
+				if (pos == null) {
+					continue;
+				}
+				searching = true;
+
+				for (EnumFacing facing : EnumFacing.VALUES) {
+					BlockPos neighborPos = pos.offset(facing);
+					if (!partsByPos.containsKey(neighborPos)) {
+						continue;
+					}
+					Integer other = visitedBy.get(neighborPos);
+					if (other == null) {
+						visitedBy.put(neighborPos, i);
+						queue.add(neighborPos);
+					} else {
+						int root = findSearch(joinedSearches, i);
+						int otherRoot = findSearch(joinedSearches, other);
+						if (root != otherRoot) {
+							joinedSearches[root] = otherRoot;
+							if (--separateSearches == 1) {
+								return true;
+							}
+						}
+					}
+				}
+
+				if (queue.isEmpty() && isSearchFinished(joinedSearches, queues, i)) {
+					return false;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static int findSearch(int[] joinedSearches, int search) {
+		while (joinedSearches[search] != search) {
+			joinedSearches[search] = joinedSearches[joinedSearches[search]];
+			search = joinedSearches[search];
+		}
+		return search;
+	}
+
+	/**
+	 * @return true if the search and all searches that it met have no parts left to visit
+	 */
+	private static boolean isSearchFinished(int[] joinedSearches, List<ArrayDeque<BlockPos>> queues, int search) {
+		int root = findSearch(joinedSearches, search);
+		for (int i = 0; i < queues.size(); i++) {
+			if (!queues.get(i).isEmpty() && findSearch(joinedSearches, i) == root) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	@Override
 
 	public Set<IMultiblockComponent> detachAllBlocks() {
@@ -826,6 +1005,7 @@ public abstract class MultiblockControllerBase implements IMultiblockControllerI
 
 		Set<IMultiblockComponent> detachedParts = connectedParts;
 		connectedParts = new HashSet<>();
+		partsByPos.clear();
 		return detachedParts;
 	}
 
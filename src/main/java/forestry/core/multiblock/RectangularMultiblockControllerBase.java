@@ -1,5 +1,10 @@
 package forestry.core.multiblock;
 
+import javax.annotation.Nullable;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+
 import forestry.api.multiblock.IMultiblockComponent;
 import forestry.core.tiles.TileUtil;
 import forestry.core.utils.Translator;
@@ -8,14 +13,34 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 
 public abstract class RectangularMultiblockControllerBase extends MultiblockControllerForestry {
+	/* The order in which the blocks of the volume are checked, so the first invalid block is always reported. */
+	private static final Comparator<BlockPos> CHECK_ORDER = Comparator.comparingInt(BlockPos::getX).thenComparingInt(BlockPos::getY).thenComparingInt(BlockPos::getZ);
 
 	private final IMultiblockSizeLimits sizeLimits;
 
+	/**
+	 * The volume of the last check that checked every block in it, or null if the next check has to check every block.
+	 * Only the blocks of parts that were added or removed since are checked again while the volume stays the same.
+	 */
+	@Nullable
+	private BlockPos checkedMinimumCoord;
+	@Nullable
+	private BlockPos checkedMaximumCoord;
+	/* The blocks of the checked volume that are not valid. */
+	private final Map<BlockPos, MultiblockValidationException> invalidBlocks = new TreeMap<>(CHECK_ORDER);
+
 	protected RectangularMultiblockControllerBase(World world, IMultiblockSizeLimits sizeLimits) {
 		super(world);
 		this.sizeLimits = sizeLimits;
 	}
 
+	@Override
+	public void reassemble() {
+		// check every block again, the blocks may have changed without changing the parts
+		checkedMinimumCoord = checkedMaximumCoord = null;
+		super.reassemble();
+	}
+
 	@Override
 	protected void isMachineWhole() throws MultiblockValidationException {
 		int minX = sizeLimits.getMinimumXSize();
@@ -57,71 +82,113 @@ public abstract class RectangularMultiblockControllerBase extends MultiblockCont
 			throw new MultiblockValidationException(Translator.translateToLocalFormatted("for.multiblock.error.small.z", minZ));
 		}
 
+		if (minimumCoord.equals(checkedMinimumCoord) && maximumCoord.equals(checkedMaximumCoord)) {
+			// The faces and layers are the same as in the last check, so only the changed blocks can have become (in)valid.
+			for (BlockPos pos : getChangedPositions()) {
+				try {
+					if (!checkBlock(pos, minimumCoord, maximumCoord)) {
+						checkedMinimumCoord = checkedMaximumCoord = null;
+					}
+					invalidBlocks.remove(pos);
+				} catch (MultiblockValidationException e) {
+					// the block may become valid without telling the controller, so the next check has to check every block
+					checkedMinimumCoord = checkedMaximumCoord = null;
+					invalidBlocks.put(pos, e);
+				}
+			}
+			if (!invalidBlocks.isEmpty()) {
+				throw invalidBlocks.values().iterator().next();
+			}
+			return;
+		}
+
+		checkedMinimumCoord = checkedMaximumCoord = null;
+		invalidBlocks.clear();
+
 		// Now we run a simple check on each block within that volume.
 		// Any block deviating = NO DEAL SIR
-		TileEntity te;
-		IMultiblockComponent part;
-		Class<? extends RectangularMultiblockControllerBase> myClass = this.getClass();
-
+		boolean onlyParts = true;
 		for (int x = minimumCoord.getX(); x <= maximumCoord.getX(); x++) {
 			for (int y = minimumCoord.getY(); y <= maximumCoord.getY(); y++) {
 				for (int z = minimumCoord.getZ(); z <= maximumCoord.getZ(); z++) {
-					// Okay, figure out what sort of block this should be.
 					BlockPos pos = new BlockPos(x, y, z);
-					te = TileUtil.getTile(world, pos);
-					if (te instanceof IMultiblockComponent) {
-						part = (IMultiblockComponent) te;
-
-						// Ensure this part should actually be allowed within a cube of this controller's type
-						if (!myClass.equals(part.getMultiblockLogic().getController().getClass())) {
-							throw new MultiblockValidationException(Translator.translateToLocalFormatted("for.multiblock.error.invalid.part", Translator.translateToLocal(getUnlocalizedType())));
-						}
-					} else {
-						// This is permitted so that we can incorporate certain non-multiblock parts inside interiors
-						part = null;
-					}
+					onlyParts &= checkBlock(pos, minimumCoord, maximumCoord);
+				}
+			}
+		}
 
-					// Validate block type against both part-level and material-level validators.
-					int extremes = 0;
+		// Blocks that are no parts can change without telling the controller, so they have to be checked every time.
+		if (onlyParts) {
+			checkedMinimumCoord = minimumCoord;
+			checkedMaximumCoord = maximumCoord;
+		}
+	}
 
-					if (x == minimumCoord.getX()) {
-						extremes++;
-					}
-					if (y == minimumCoord.getY()) {
-						extremes++;
-					}
-					if (z == minimumCoord.getZ()) {
-						extremes++;
-					}
+	/**
+	 * Checks if the block is allowed at its position in the volume.
+	 *
+	 * @return true if the block is a part
+	 * @throws MultiblockValidationException if the block is not allowed at this position
+	 */
+	private boolean checkBlock(BlockPos pos, BlockPos minimumCoord, BlockPos maximumCoord) throws MultiblockValidationException {
+		// Okay, figure out what sort of block this should be.
+		IMultiblockComponent part;
+		TileEntity te = TileUtil.getTile(world, pos);
+		if (te instanceof IMultiblockComponent) {
+			part = (IMultiblockComponent) te;
 
-					if (x == maximumCoord.getX()) {
-						extremes++;
-					}
-					if (y == maximumCoord.getY()) {
-						extremes++;
-					}
-					if (z == maximumCoord.getZ()) {
-						extremes++;
-					}
+			// Ensure this part should actually be allowed within a cube of this controller's type
+			if (!getClass().equals(part.getMultiblockLogic().getController().getClass())) {
+				throw new MultiblockValidationException(Translator.translateToLocalFormatted("for.multiblock.error.invalid.part", Translator.translateToLocal(getUnlocalizedType())));
+			}
+		} else {
+			// This is permitted so that we can incorporate certain non-multiblock parts inside interiors
+			part = null;
+		}
 
-					if (extremes >= 1) {
-						// Side
-						int exteriorLevel = y - minimumCoord.getY();
-						if (part != null) {
-							isGoodForExteriorLevel(part, exteriorLevel);
-						} else {
-							isBlockGoodForExteriorLevel(exteriorLevel, this.world, pos);
-						}
-					} else {
-						if (part != null) {
-							isGoodForInterior(part);
-						} else {
-							isBlockGoodForInterior(this.world, pos);
-						}
-					}
-				}
+		int x = pos.getX();
+		int y = pos.getY();
+		int z = pos.getZ();
+
+		// Validate block type against both part-level and material-level validators.
+		int extremes = 0;
+
+		if (x == minimumCoord.getX()) {
+			extremes++;
+		}
+		if (y == minimumCoord.getY()) {
+			extremes++;
+		}
+		if (z == minimumCoord.getZ()) {
+			extremes++;
+		}
+
+		if (x == maximumCoord.getX()) {
+			extremes++;
+		}
+		if (y == maximumCoord.getY()) {
+			extremes++;
+		}
+		if (z == maximumCoord.getZ()) {
+			extremes++;
+		}
+
+		if (extremes >= 1) {
+			// Side
+			int exteriorLevel = y - minimumCoord.getY();
+			if (part != null) {
+				isGoodForExteriorLevel(part, exteriorLevel);
+			} else {
+				isBlockGoodForExteriorLevel(exteriorLevel, this.world, pos);
+			}
+		} else {
+			if (part != null) {
+				isGoodForInterior(part);
+			} else {
+				isBlockGoodForInterior(this.world, pos);
 			}
 		}
+		return part != null;
 	}
 
 	protected IMultiblockSizeLimits getSizeLimits() {
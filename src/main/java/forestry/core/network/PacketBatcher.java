@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.network;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import forestry.core.network.packets.PacketBatchUpdate;
+import forestry.core.utils.NetworkUtil;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+
+/**
+ * Per-world outbound queue for block position bound packets, like tile updates.
+ * <p>
+ * Packets that are queued during a tick are deduplicated per position and packet id, only the last one is kept.
+ * At the end of the world tick all packets of a chunk are encoded into one {@link PacketBatchUpdate} that is sent
+ * once to every player that watches the chunk.
+ * Must only be used from the server thread.
+ */
+public class PacketBatcher {
+	/**
+	 * Batches are split before they get bigger than this, so a single batch never stalls the connection.
+	 */
+	private static final int MAX_BATCH_SIZE = 32767;
+
+	private static final Map<World, PacketBatcher> batchers = new HashMap<>();
+
+	// Indexed by the hashed chunk coordinate, then by the packed block position
+	private final Map<Long, Map<Long, List<IForestryPacketClient>>> packetsByChunk = new LinkedHashMap<>();
+	private final World world;
+
+	/* Statistics of the last flush and the highest values of all flushes. */
+	private int lastUpdates;
+	private int lastPackets;
+	private int lastBytes;
+	private int peakUpdates;
+	private int peakPackets;
+	private int peakBytes;
+
+	private PacketBatcher(World world) {
+		this.world = world;
+	}
+
+	public static void queuePacket(IForestryPacketClient packet, BlockPos pos, World world) {
+		PacketBatcher batcher = batchers.get(world);
+		if (batcher == null) {
+			batcher = new PacketBatcher(world);
+			batchers.put(world, batcher);
+		}
+		batcher.queue(packet, pos);
+	}
+
+	/**
+	 * Sends all packets that were queued for the world during this tick.
+	 */
+	public static void flush(World world) {
+		PacketBatcher batcher = batchers.get(world);
+		if (batcher != null) {
+			batcher.flush();
+		}
+	}
+
+	public static void onWorldUnload(World world) {
+		batchers.remove(world);
+	}
+
+	public static Map<World, PacketBatcher> getBatchers() {
+		return Collections.unmodifiableMap(batchers);
+	}
+
+	private void queue(IForestryPacketClient packet, BlockPos pos) {
+		long chunkKey = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+		Map<Long, List<IForestryPacketClient>> chunkPackets = packetsByChunk.get(chunkKey);
+		if (chunkPackets == null) {
+			chunkPackets = new LinkedHashMap<>();
+			packetsByChunk.put(chunkKey, chunkPackets);
+		}
+
+		List<IForestryPacketClient> posPackets = chunkPackets.get(pos.toLong());
+		if (posPackets == null) {
+			posPackets = new ArrayList<>(1);
+			chunkPackets.put(pos.toLong(), posPackets);
+		}
+
+		for (int i = 0; i < posPackets.size(); i++) {
+			if (posPackets.get(i).getPacketId() == packet.getPacketId()) {
+				posPackets.set(i, packet);
+				return;
+			}
+		}
+		posPackets.add(packet);
+	}
+
+	private void flush() {
+		int updates = 0;
+		int packets = 0;
+		int bytes = 0;
+
+		for (Map.Entry<Long, Map<Long, List<IForestryPacketClient>>> chunkEntry : packetsByChunk.entrySet()) {
+			long chunkKey = chunkEntry.getKey();
+			int chunkX = (int) chunkKey;
+			int chunkZ = (int) (chunkKey >>> 32);
+			if (!NetworkUtil.isChunkWatched(world, chunkX, chunkZ)) {
+				continue;
+			}
+			BlockPos chunkPos = new BlockPos(chunkX << 4, 0, chunkZ << 4);
+
+			List<IForestryPacketClient> chunkPackets = new ArrayList<>();
+			for (List<IForestryPacketClient> posPackets : chunkEntry.getValue().values()) {
+				chunkPackets.addAll(posPackets);
+			}
+			updates += chunkPackets.size();
+
+			if (chunkPackets.size() == 1) {
+				int sent = NetworkUtil.sendNetworkPacket(chunkPackets.get(0), chunkPos, world);
+				if (sent > 0) {
+					packets++;
+					bytes += sent;
+				}
+				continue;
+			}
+
+			PacketBatchUpdate batch = new PacketBatchUpdate();
+			for (IForestryPacketClient packet : chunkPackets) {
+				ByteBuf payload = packet.getPacket().payload();
+				if (!batch.isEmpty() && batch.getSize() + payload.readableBytes() > MAX_BATCH_SIZE) {
+					int sent = NetworkUtil.sendNetworkPacket(batch, chunkPos, world);
+					if (sent > 0) {
+						packets++;
+						bytes += sent;
+					}
+					batch = new PacketBatchUpdate();
+				}
+				batch.add(payload);
+			}
+			int sent = NetworkUtil.sendNetworkPacket(batch, chunkPos, world);
+			if (sent > 0) {
+				packets++;
+				bytes += sent;
+			}
+		}
+		packetsByChunk.clear();
+
+		lastUpdates = updates;
+		lastPackets = packets;
+		lastBytes = bytes;
+		peakUpdates = Math.max(peakUpdates, updates);
+		peakPackets = Math.max(peakPackets, packets);
+		peakBytes = Math.max(peakBytes, bytes);
+	}
+
+	public int getLastUpdates() {
+		return lastUpdates;
+	}
+
+	public int getLastPackets() {
+		return lastPackets;
+	}
+
+	public int getLastBytes() {
+		return lastBytes;
+	}
+
+	public int getPeakUpdates() {
+		return peakUpdates;
+	}
+
+	public int getPeakPackets() {
+		return peakPackets;
+	}
+
+	public int getPeakBytes() {
+		return peakBytes;
+	}
+
+	public void resetPeaks() {
+		peakUpdates = 0;
+		peakPackets = 0;
+		peakBytes = 0;
+	}
+}
@@ -64,7 +64,10 @@ public enum PacketIdClient implements IPacketId {
 	POBOX_INFO_RESPONSE,
 
 	// JEI
-	RECIPE_TRANSFER_UPDATE;
+	RECIPE_TRANSFER_UPDATE,
+
+	// Core Tile Entities, appended so the ids above stay the same
+	TILE_BATCH_UPDATE;
 
 	public static final PacketIdClient[] VALUES = values();
 
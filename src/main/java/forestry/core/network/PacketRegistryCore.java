@@ -10,6 +10,7 @@
  ******************************************************************************/
 package forestry.core.network;
 
+import forestry.core.network.packets.PacketBatchUpdate;
 import forestry.core.network.packets.PacketCamouflageSelectClient;
 import forestry.core.network.packets.PacketCamouflageSelectServer;
 import forestry.core.network.packets.PacketChipsetClick;
@@ -54,6 +55,7 @@ public class PacketRegistryCore implements IPacketRegistry {
 		PacketIdClient.GUI_ENERGY.setPacketHandler(new PacketGuiEnergy.Handler());
 		PacketIdClient.SOCKET_UPDATE.setPacketHandler(new PacketSocketUpdate.Handler());
 		PacketIdClient.TILE_FORESTRY_UPDATE.setPacketHandler(new PacketTileStream.Handler());
+		PacketIdClient.TILE_BATCH_UPDATE.setPacketHandler(new PacketBatchUpdate.Handler());
 		PacketIdClient.ITEMSTACK_DISPLAY.setPacketHandler(new PacketItemStackDisplay.Handler());
 		PacketIdClient.FX_SIGNAL.setPacketHandler(new PacketFXSignal.Handler());
 		PacketIdClient.TANK_LEVEL_UPDATE.setPacketHandler(new PacketTankLevelUpdate.Handler());
@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.network;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts the packets and bytes the server sent to clients, per {@link PacketIdClient}.
+ * A packet that was multicast to all players watching a chunk counts once.
+ */
+public class PacketStatistics {
+	private static final AtomicLongArray packetsSent = new AtomicLongArray(PacketIdClient.VALUES.length);
+	private static final AtomicLongArray bytesSent = new AtomicLongArray(PacketIdClient.VALUES.length);
+
+	private PacketStatistics() {
+	}
+
+	public static void onPacketSent(int packetIdOrdinal, int bytes) {
+		if (packetIdOrdinal >= 0 && packetIdOrdinal < PacketIdClient.VALUES.length) {
+			packetsSent.incrementAndGet(packetIdOrdinal);
+			bytesSent.addAndGet(packetIdOrdinal, bytes);
+		}
+	}
+
+	public static long getPacketsSent(PacketIdClient packetId) {
+		return packetsSent.get(packetId.ordinal());
+	}
+
+	public static long getBytesSent(PacketIdClient packetId) {
+		return bytesSent.get(packetId.ordinal());
+	}
+
+	public static void reset() {
+		for (int i = 0; i < PacketIdClient.VALUES.length; i++) {
+			packetsSent.set(i, 0);
+			bytesSent.set(i, 0);
+		}
+	}
+}
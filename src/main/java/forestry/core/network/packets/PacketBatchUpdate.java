@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.network.packets;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import forestry.core.network.ForestryPacket;
+import forestry.core.network.IForestryPacketClient;
+import forestry.core.network.IForestryPacketHandlerClient;
+import forestry.core.network.PacketBatcher;
+import forestry.core.network.PacketBufferForestry;
+import forestry.core.network.PacketIdClient;
+import forestry.core.utils.Log;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+/**
+ * Contains the encoded payloads of several client packets, see {@link PacketBatcher}.
+ * The client handler passes every payload to the handler of its packet id, in the order they were added.
+ * A payload that fails is logged and skipped, the others are still handled.
+ */
+public class PacketBatchUpdate extends ForestryPacket implements IForestryPacketClient {
+	private final List<ByteBuf> payloads = new ArrayList<>();
+	private int size;
+
+	public void add(ByteBuf payload) {
+		payloads.add(payload);
+		size += payload.readableBytes();
+	}
+
+	public boolean isEmpty() {
+		return payloads.isEmpty();
+	}
+
+	/**
+	 * @return the combined size of the added payloads in bytes
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	@Override
+	public PacketIdClient getPacketId() {
+		return PacketIdClient.TILE_BATCH_UPDATE;
+	}
+
+	@Override
+	protected void writeData(PacketBufferForestry data) {
+		data.writeVarInt(payloads.size());
+		for (ByteBuf payload : payloads) {
+			data.writeVarInt(payload.readableBytes());
+			data.writeBytes(payload, payload.readerIndex(), payload.readableBytes());
+		}
+	}
+
+	@SideOnly(Side.CLIENT)
+	public static class Handler implements IForestryPacketHandlerClient {
+		@Override
+		public void onPacketData(PacketBufferForestry data, EntityPlayer player) throws IOException {
+			int count = data.readVarInt();
+			for (int i = 0; i < count; i++) {
+				int length = data.readVarInt();
+				PacketBufferForestry payload = new PacketBufferForestry(data.readSlice(length));
+				// the length is already read, so a bad payload can't affect the ones after it
+				try {
+					byte packetIdOrdinal = payload.readByte();
+					PacketIdClient packetId = PacketIdClient.VALUES[packetIdOrdinal];
+					packetId.getPacketHandler().onPacketData(payload, player);
+				} catch (IOException | RuntimeException e) {
+					Log.error("Network Error in batched packet " + i + " of " + count, e);
+				}
+			}
+		}
+	}
+}
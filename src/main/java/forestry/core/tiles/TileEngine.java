@@ -28,7 +28,10 @@ import net.minecraft.block.state.IBlockState;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
 import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.energy.IEnergyStorage;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
@@ -55,6 +58,12 @@ public abstract class TileEngine extends TileBase implements IActivatable, IStre
 	protected final EnergyManager energyManager;
 	private final String hintKey;
 
+	private boolean outputResolved = false;
+	@Nullable
+	private TileEntity outputTile;
+	@Nullable
+	private IEnergyStorage outputReceiver;
+
 	protected TileEngine(String hintKey, int maxHeat, int maxEnergy) {
 		this.hintKey = hintKey;
 		this.maxHeat = maxHeat;
@@ -114,10 +123,7 @@ public abstract class TileEngine extends TileBase implements IActivatable, IStre
 		boolean enabledRedstone = isRedstoneActivated();
 		errorLogic.setCondition(!enabledRedstone, EnumErrorCode.NO_REDSTONE);
 
-		// Determine targeted tile
-		IBlockState blockState = world.getBlockState(getPos());
-		EnumFacing facing = blockState.getValue(BlockBase.FACING);
-		TileEntity tile = world.getTileEntity(getPos().offset(facing));
+		IEnergyStorage receiver = getOutputReceiver();
 
 		float newPistonSpeed = getPistonSpeed();
 		if (newPistonSpeed != pistonSpeedServer) {
@@ -129,16 +135,19 @@ public abstract class TileEngine extends TileBase implements IActivatable, IStre
 
 			progress += pistonSpeedServer;
 
-			EnergyHelper.sendEnergy(energyManager, facing, tile);
-
 			if (progress > 0.25 && stagePiston == 1) {
 				stagePiston = 2;
 			} else if (progress >= 0.5) {
 				progress = 0;
 				stagePiston = 0;
 			}
-		} else if (enabledRedstone && EnergyHelper.isEnergyReceiverOrEngine(facing.getOpposite(), tile)) {
-			if (EnergyHelper.canSendEnergy(energyManager, facing, tile)) {
+
+			// the energy of a stroke is sent at its end, or earlier if the engine has enough for a full transfer
+			if (receiver != null && (stagePiston == 0 || energyManager.getEnergyStored() >= energyManager.getMaxEnergyExtracted())) {
+				EnergyHelper.sendEnergy(energyManager, receiver, Integer.MAX_VALUE, false);
+			}
+		} else if (enabledRedstone && receiver != null && receiver.canReceive()) {
+			if (EnergyHelper.sendEnergy(energyManager, receiver, Integer.MAX_VALUE, true) > 0) {
 				stagePiston = 1; // If we can transfer energy, start running
 				setActive(true);
 				cantSendEnergyCountdown = CANT_SEND_ENERGY_TIME;
@@ -164,6 +173,50 @@ public abstract class TileEngine extends TileBase implements IActivatable, IStre
 		}
 	}
 
+	/**
+	 * @return the energy storage in front of the engine, or null if there is none.
+	 * It is looked up again after a neighbour or the facing of the engine changed, or the tile in front was removed.
+	 */
+	@Nullable
+	private IEnergyStorage getOutputReceiver() {
+		if (outputTile != null && outputTile.isInvalid()) {
+			invalidateOutput();
+		}
+		if (!outputResolved) {
+			IBlockState blockState = world.getBlockState(getPos());
+			EnumFacing facing = blockState.getValue(BlockBase.FACING);
+			outputTile = world.getTileEntity(getPos().offset(facing));
+			outputReceiver = EnergyHelper.getEnergyReceiver(facing.getOpposite(), outputTile);
+			outputResolved = true;
+		}
+		return outputReceiver;
+	}
+
+	private void invalidateOutput() {
+		outputResolved = false;
+		outputTile = null;
+		outputReceiver = null;
+	}
+
+	@Override
+	public void onNeighborTileChange(World world, BlockPos pos, BlockPos neighbor) {
+		super.onNeighborTileChange(world, pos, neighbor);
+		invalidateOutput();
+	}
+
+	@Override
+	public void onNeighborBlockChange() {
+		super.onNeighborBlockChange();
+		invalidateOutput();
+	}
+
+	@Override
+	public void updateContainingBlockInfo() {
+		super.updateContainingBlockInfo();
+		// called when the engine was rotated
+		invalidateOutput();
+	}
+
 	@Override
 	public boolean isActive() {
 		return active;
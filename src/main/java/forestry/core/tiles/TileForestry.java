@@ -13,6 +13,7 @@ package forestry.core.tiles;
 import javax.annotation.Nullable;
 import java.io.IOException;
 import java.util.Random;
+import java.util.Set;
 
 import com.google.common.base.Preconditions;
 import forestry.api.core.IErrorLogic;
@@ -57,6 +58,7 @@ public abstract class TileForestry extends TileEntity implements IStreamable, IE
 
 	private final TickHelper tickHelper = new TickHelper();
 	private boolean needsNetworkUpdate = false;
+	private boolean sleeping = false;
 
 	protected AdjacentTileCache getTileCache() {
 		return tileCache;
@@ -64,14 +66,38 @@ public abstract class TileForestry extends TileEntity implements IStreamable, IE
 
 	public void onNeighborTileChange(World world, BlockPos pos, BlockPos neighbor) {
 		tileCache.onNeighborChange();
+		wakeUp(TileScheduler.WakeCondition.NEIGHBOUR_CHANGE);
+	}
+
+	/**
+	 * Called when a neighbouring block changed, this includes changes of the redstone signal.
+	 */
+	public void onNeighborBlockChange() {
+		if (sleeping) {
+			wakeUp(TileScheduler.WakeCondition.NEIGHBOUR_CHANGE);
+			TileScheduler.checkRedstone(this);
+		}
 	}
 
 	@Override
 	public void invalidate() {
 		tileCache.purge();
+		TileScheduler.remove(this);
 		super.invalidate();
 	}
 
+	@Override
+	public void onChunkUnload() {
+		super.onChunkUnload();
+		TileScheduler.remove(this);
+	}
+
+	@Override
+	public void markDirty() {
+		super.markDirty();
+		wakeUp(TileScheduler.WakeCondition.INVENTORY_CHANGE);
+	}
+
 	@Override
 	public void validate() {
 		tileCache.purge();
@@ -106,6 +132,39 @@ public abstract class TileForestry extends TileEntity implements IStreamable, IE
 		return tickHelper.updateOnInterval(tickInterval);
 	}
 
+	// / SLEEPING
+	/**
+	 * Stops ticking this tile until one of the conditions fires or the timeout passed, see {@link TileScheduler}.
+	 * Only has an effect on the server.
+	 *
+	 * @param timeout the number of ticks after which the tile wakes up without any other condition
+	 */
+	protected final void sleep(Set<TileScheduler.WakeCondition> conditions, int timeout) {
+		if (world != null && !world.isRemote) {
+			TileScheduler.sleep(this, conditions, timeout);
+		}
+	}
+
+	public final void wakeUp(TileScheduler.WakeCondition condition) {
+		if (sleeping) {
+			TileScheduler.wakeUp(this, condition);
+		}
+	}
+
+	public final boolean isSleeping() {
+		return sleeping;
+	}
+
+	final void setSleeping(boolean sleeping) {
+		this.sleeping = sleeping;
+	}
+
+	/**
+	 * Called after the tile was added back to the ticking list of the world.
+	 */
+	protected void onWakeUp() {
+	}
+
 	// / SAVING & LOADING
 	@Override
 	public void readFromNBT(NBTTagCompound data) {
@@ -144,7 +203,7 @@ public abstract class TileForestry extends TileEntity implements IStreamable, IE
 	/* INetworkedEntity */
 	protected final void sendNetworkUpdate() {
 		PacketTileStream packet = new PacketTileStream(this);
-		NetworkUtil.sendNetworkPacket(packet, pos, world);
+		NetworkUtil.queueNetworkPacket(packet, pos, world);
 	}
 
 	/* IStreamable */
@@ -12,6 +12,7 @@ package forestry.core.tiles;
 
 import javax.annotation.Nullable;
 import java.io.IOException;
+import java.util.EnumSet;
 
 import forestry.api.core.IErrorLogic;
 import forestry.core.circuits.ISpeedUpgradable;
@@ -31,6 +32,9 @@ import net.minecraftforge.fml.relauncher.SideOnly;
 //@Optional.Interface(iface = "buildcraft.api.tiles.IHasWork", modid = "BuildCraftAPI|tiles")
 public abstract class TilePowered extends TileBase implements IRenderableTile, ISpeedUpgradable, IStreamableGui {
 	private static final int WORK_TICK_INTERVAL = 5; // one Forestry work tick happens every WORK_TICK_INTERVAL game ticks
+	// idle machines evaluate hasWork() again after this many game ticks even if nothing changed, in case a stack was changed in place
+	private static final int IDLE_RECHECK_INTERVAL = 200;
+	protected static final long NO_CHANGE_VERSION = -1;
 
 	private final EnergyManager energyManager;
 
@@ -44,8 +48,22 @@ public abstract class TilePowered extends TileBase implements IRenderableTile, I
 	// the number of work ticks that this tile has had no power
 	private int noPowerTime = 0;
 
+	// incremented whenever the tile is marked dirty, which includes changes to the stacks in its slots by containers
+	private int dirtyVersion;
+	// the change version of the last time hasWork() returned false, or NO_CHANGE_VERSION if it has to be evaluated again
+	private long idleChangeVersion = NO_CHANGE_VERSION;
+
 	protected TilePowered(int maxTransfer, int capacity) {
-		this.energyManager = new EnergyManager(maxTransfer, capacity);
+		this.energyManager = new EnergyManager(maxTransfer, capacity) {
+			@Override
+			public int receiveEnergy(int maxReceive, boolean simulate) {
+				int received = super.receiveEnergy(maxReceive, simulate);
+				if (!simulate && received > 0) {
+					wakeUp(TileScheduler.WakeCondition.ENERGY_RECEIVED);
+				}
+				return received;
+			}
+		};
 		this.energyManager.setExternalMode(EnergyTransferMode.RECEIVE);
 
 		this.ticksPerWorkCycle = 4;
@@ -92,6 +110,61 @@ public abstract class TilePowered extends TileBase implements IRenderableTile, I
 //	@Override
 	public abstract boolean hasWork();
 
+	/**
+	 * Machines whose {@link #hasWork()} only depends on the contents of their inventories and tanks return the sum of
+	 * {@link #getDirtyVersion()} and the change versions of their inventories and tanks.
+	 * An idle machine then only evaluates {@link #hasWork()} again after one of them changed, and keeps its errors until then.
+	 *
+	 * @return {@link #NO_CHANGE_VERSION} if {@link #hasWork()} has to be evaluated on every work tick
+	 */
+	protected long getChangeVersion() {
+		return NO_CHANGE_VERSION;
+	}
+
+	protected final int getDirtyVersion() {
+		return dirtyVersion;
+	}
+
+	@Override
+	public void markDirty() {
+		super.markDirty();
+		dirtyVersion++;
+	}
+
+	/**
+	 * Idle machines fall asleep until their contents or the redstone signal changed, see {@link TileScheduler}.
+	 * Machines that do more in their update than their work cycle must override this to only return true while the
+	 * update has nothing to do.
+	 */
+	protected boolean canSleepWhenIdle() {
+		return getChangeVersion() != NO_CHANGE_VERSION;
+	}
+
+	private void sleepWhenIdle() {
+		// on this interval the periodic container handling of the machines runs before they fall asleep
+		if (updateOnInterval(20) && canSleepWhenIdle()) {
+			sleep(EnumSet.of(TileScheduler.WakeCondition.INVENTORY_CHANGE, TileScheduler.WakeCondition.NEIGHBOUR_CHANGE, TileScheduler.WakeCondition.REDSTONE_CHANGE), IDLE_RECHECK_INTERVAL);
+		}
+	}
+
+	@Override
+	protected void onWakeUp() {
+		super.onWakeUp();
+		// the timer may have woken the machine up to catch stacks that were changed in place
+		idleChangeVersion = NO_CHANGE_VERSION;
+	}
+
+	private boolean hasWorkCached() {
+		if (idleChangeVersion != NO_CHANGE_VERSION && idleChangeVersion == getChangeVersion() && !updateOnInterval(IDLE_RECHECK_INTERVAL)) {
+			return false;
+		}
+
+		boolean hasWork = hasWork();
+		// hasWork() may take fuel or resources itself, so the version is read afterwards
+		idleChangeVersion = hasWork ? NO_CHANGE_VERSION : getChangeVersion();
+		return hasWork;
+	}
+
 	@Override
 	protected void updateServerSide() {
 		super.updateServerSide();
@@ -105,10 +178,12 @@ public abstract class TilePowered extends TileBase implements IRenderableTile, I
 		boolean disabled = isRedstoneActivated();
 		errorLogic.setCondition(disabled, EnumErrorCode.DISABLED_BY_REDSTONE);
 		if (disabled) {
+			sleepWhenIdle();
 			return;
 		}
 
-		if (!hasWork()) {
+		if (!hasWorkCached()) {
+			sleepWhenIdle();
 			return;
 		}
 
@@ -0,0 +1,224 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.tiles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+/**
+ * Per-world scheduler that takes dormant Forestry tiles out of the ticking list of the world until one of their
+ * wake conditions fires.
+ * <p>
+ * A tile asks to sleep with {@link TileForestry#sleep(Set, int)}. The ticking list of the world must not be changed
+ * while the world ticks its tiles, so tiles are only removed from it and added back at the end of the world tick.
+ * A wake condition that fires before the end of the tick cancels the sleep.
+ * Dormancy is not saved, tiles tick again after their chunk was loaded.
+ * Must only be used from the server thread.
+ */
+public class TileScheduler {
+	private static final Map<World, TileScheduler> schedulers = new HashMap<>();
+
+	public enum WakeCondition {
+		INVENTORY_CHANGE, NEIGHBOUR_CHANGE, REDSTONE_CHANGE, ENERGY_RECEIVED
+	}
+
+	private final World world;
+	private final Map<TileForestry, Sleep> sleeps = new IdentityHashMap<>();
+	private final List<Sleep> pendingSleeps = new ArrayList<>();
+	private final List<Sleep> pendingWakes = new ArrayList<>();
+	private final PriorityQueue<Sleep> timers = new PriorityQueue<>(Comparator.comparingLong(sleep -> sleep.wakeTime));
+	private int dormantCount;
+
+	private TileScheduler(World world) {
+		this.world = world;
+	}
+
+	private static TileScheduler get(World world) {
+		TileScheduler scheduler = schedulers.get(world);
+		if (scheduler == null) {
+			scheduler = new TileScheduler(world);
+			schedulers.put(world, scheduler);
+		}
+		return scheduler;
+	}
+
+	/**
+	 * @param timeout the number of ticks after which the tile wakes up without any other condition
+	 */
+	static void sleep(TileForestry tile, Set<WakeCondition> conditions, int timeout) {
+		World world = tile.getWorld();
+		TileScheduler scheduler = get(world);
+		if (scheduler.sleeps.containsKey(tile)) {
+			return;
+		}
+		boolean powered = world.isBlockIndirectlyGettingPowered(tile.getPos()) > 0;
+		Set<WakeCondition> wakeConditions = EnumSet.noneOf(WakeCondition.class);
+		wakeConditions.addAll(conditions);
+		Sleep sleep = new Sleep(tile, wakeConditions, world.getTotalWorldTime() + timeout, powered);
+		scheduler.sleeps.put(tile, sleep);
+		scheduler.pendingSleeps.add(sleep);
+		tile.setSleeping(true);
+	}
+
+	static void wakeUp(TileForestry tile, WakeCondition condition) {
+		TileScheduler scheduler = schedulers.get(tile.getWorld());
+		if (scheduler == null) {
+			return;
+		}
+		Sleep sleep = scheduler.sleeps.get(tile);
+		if (sleep != null && sleep.conditions.contains(condition)) {
+			scheduler.wakeUp(sleep);
+		}
+	}
+
+	/**
+	 * Wakes the tile up if the redstone signal at its position changed since it fell asleep.
+	 */
+	static void checkRedstone(TileForestry tile) {
+		TileScheduler scheduler = schedulers.get(tile.getWorld());
+		if (scheduler == null) {
+			return;
+		}
+		Sleep sleep = scheduler.sleeps.get(tile);
+		if (sleep != null && sleep.conditions.contains(WakeCondition.REDSTONE_CHANGE)) {
+			boolean powered = tile.getWorld().isBlockIndirectlyGettingPowered(tile.getPos()) > 0;
+			if (powered != sleep.powered) {
+				scheduler.wakeUp(sleep);
+			}
+		}
+	}
+
+	/**
+	 * Forgets the tile without adding it back to the ticking list, for tiles that were removed or unloaded.
+	 */
+	static void remove(TileForestry tile) {
+		TileScheduler scheduler = schedulers.get(tile.getWorld());
+		if (scheduler != null) {
+			Sleep sleep = scheduler.sleeps.remove(tile);
+			if (sleep != null) {
+				if (sleep.dormant) {
+					scheduler.dormantCount--;
+				}
+				sleep.cancelled = true;
+				tile.setSleeping(false);
+			}
+		}
+	}
+
+	private void wakeUp(Sleep sleep) {
+		sleeps.remove(sleep.tile);
+		sleep.tile.setSleeping(false);
+		if (sleep.dormant) {
+			pendingWakes.add(sleep);
+		} else {
+			sleep.cancelled = true;
+		}
+	}
+
+	/**
+	 * Removes the tiles that fell asleep during this tick from the ticking list and adds the tiles back that woke up.
+	 */
+	public static void tick(World world) {
+		TileScheduler scheduler = schedulers.get(world);
+		if (scheduler != null) {
+			scheduler.tick();
+		}
+	}
+
+	private void tick() {
+		if (!pendingSleeps.isEmpty()) {
+			Set<TileEntity> asleep = Collections.newSetFromMap(new IdentityHashMap<>());
+			for (Sleep sleep : pendingSleeps) {
+				if (!sleep.cancelled) {
+					sleep.dormant = true;
+					dormantCount++;
+					asleep.add(sleep.tile);
+					timers.add(sleep);
+				}
+			}
+			pendingSleeps.clear();
+			world.tickableTileEntities.removeIf(asleep::contains);
+		}
+
+		long worldTime = world.getTotalWorldTime();
+		while (!timers.isEmpty() && timers.peek().wakeTime <= worldTime) {
+			Sleep sleep = timers.poll();
+			if (!sleep.cancelled && sleeps.get(sleep.tile) == sleep) {
+				wakeUp(sleep);
+			}
+		}
+
+		for (Sleep sleep : pendingWakes) {
+			sleep.dormant = false;
+			sleep.cancelled = true;
+			dormantCount--;
+			TileForestry tile = sleep.tile;
+			BlockPos pos = tile.getPos();
+			if (!tile.isInvalid() && world.isBlockLoaded(pos) && world.getTileEntity(pos) == tile) {
+				world.tickableTileEntities.add(tile);
+				tile.onWakeUp();
+			}
+		}
+		pendingWakes.clear();
+	}
+
+	public static void onWorldUnload(World world) {
+		schedulers.remove(world);
+	}
+
+	public static int getDormantCount(World world) {
+		TileScheduler scheduler = schedulers.get(world);
+		return scheduler == null ? 0 : scheduler.dormantCount;
+	}
+
+	/**
+	 * Counts the Forestry tiles in the ticking list of the world, so it should not be called every tick.
+	 */
+	public static int countTickingTiles(World world) {
+		int count = 0;
+		for (TileEntity tile : world.tickableTileEntities) {
+			if (tile instanceof TileForestry) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private static class Sleep {
+		private final TileForestry tile;
+		private final Set<WakeCondition> conditions;
+		private final long wakeTime;
+		// the redstone signal at the time the tile fell asleep
+		private final boolean powered;
+		private boolean dormant;
+		// set once the sleep is over, so it is skipped by the timers
+		private boolean cancelled;
+
+		public Sleep(TileForestry tile, Set<WakeCondition> conditions, long wakeTime, boolean powered) {
+			this.tile = tile;
+			this.conditions = conditions;
+			this.wakeTime = wakeTime;
+			this.powered = powered;
+		}
+	}
+}
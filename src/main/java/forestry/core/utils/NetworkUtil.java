@@ -14,22 +14,40 @@ import com.google.common.base.Preconditions;
 import forestry.Forestry;
 import forestry.core.network.IForestryPacketClient;
 import forestry.core.network.IForestryPacketServer;
+import forestry.core.network.PacketBatcher;
+import forestry.core.network.PacketHandler;
+import forestry.core.network.PacketStatistics;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.network.NetHandlerPlayClient;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.network.play.server.SPacketCustomPayload;
 import net.minecraft.server.management.PlayerChunkMap;
+import net.minecraft.server.management.PlayerChunkMapEntry;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
 import net.minecraftforge.common.util.FakePlayer;
+import net.minecraftforge.fml.common.network.internal.FMLProxyPacket;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
 public class NetworkUtil {
-	public static <P extends IForestryPacketClient> void sendNetworkPacket(P packet, BlockPos pos, World world) {
+	/**
+	 * Vanilla refuses custom payloads bigger than this, bigger packets have to be split by the forge channel.
+	 */
+	private static final int MAX_MULTICAST_PAYLOAD = 1048576;
+
+	/**
+	 * Sends the packet to all players that watch the chunk of the position.
+	 * The packet is only encoded once and the watching players are looked up from the chunk entry of the player chunk map.
+	 *
+	 * @return the size of the sent packet in bytes or 0 if nobody watches the chunk
+	 */
+	public static <P extends IForestryPacketClient> int sendNetworkPacket(P packet, BlockPos pos, World world) {
 		if (!(world instanceof WorldServer)) {
-			return;
+			return 0;
 		}
 
 		WorldServer worldServer = (WorldServer) world;
@@ -38,15 +56,46 @@ public class NetworkUtil {
 		int chunkX = pos.getX() >> 4;
 		int chunkZ = pos.getZ() >> 4;
 
-		for (Object playerObj : world.playerEntities) {
-			if (playerObj instanceof EntityPlayerMP) {
-				EntityPlayerMP player = (EntityPlayerMP) playerObj;
+		PlayerChunkMapEntry chunkEntry = playerManager.getEntry(chunkX, chunkZ);
+		if (chunkEntry == null || !chunkEntry.isSentToPlayers()) {
+			return 0;
+		}
 
-				if (playerManager.isPlayerWatchingChunk(player, chunkX, chunkZ)) {
+		FMLProxyPacket proxyPacket = packet.getPacket();
+		PacketBuffer payload = proxyPacket.payload();
+		if (payload.readableBytes() > MAX_MULTICAST_PAYLOAD) {
+			for (EntityPlayer player : world.playerEntities) {
+				if (player instanceof EntityPlayerMP && chunkEntry.containsPlayer((EntityPlayerMP) player)) {
 					sendToPlayer(packet, player);
 				}
 			}
+			return payload.readableBytes();
+		}
+
+		int bytes = payload.readableBytes();
+		PacketStatistics.onPacketSent(packet.getPacketId().ordinal(), bytes);
+		chunkEntry.sendPacket(new SPacketCustomPayload(PacketHandler.channelId, payload));
+		return bytes;
+	}
+
+	/**
+	 * Queues the packet for the players that watch the chunk of the position.
+	 * All packets that are queued for a chunk during a tick are sent together in one batch at the end of the tick,
+	 * an earlier packet with the same id for the same position is replaced.
+	 */
+	public static <P extends IForestryPacketClient> void queueNetworkPacket(P packet, BlockPos pos, World world) {
+		if (!(world instanceof WorldServer)) {
+			return;
+		}
+		PacketBatcher.queuePacket(packet, pos, world);
+	}
+
+	public static boolean isChunkWatched(World world, int chunkX, int chunkZ) {
+		if (!(world instanceof WorldServer)) {
+			return false;
 		}
+		PlayerChunkMapEntry chunkEntry = ((WorldServer) world).getPlayerChunkMap().getEntry(chunkX, chunkZ);
+		return chunkEntry != null && chunkEntry.isSentToPlayers();
 	}
 
 	public static void sendToPlayer(IForestryPacketClient packet, EntityPlayer entityplayer) {
@@ -55,7 +104,9 @@ public class NetworkUtil {
 		}
 
 		EntityPlayerMP player = (EntityPlayerMP) entityplayer;
-		Forestry.getPacketHandler().sendPacket(packet.getPacket(), player);
+		FMLProxyPacket proxyPacket = packet.getPacket();
+		PacketStatistics.onPacketSent(packet.getPacketId().ordinal(), proxyPacket.payload().readableBytes());
+		Forestry.getPacketHandler().sendPacket(proxyPacket, player);
 	}
 
 	public static void inventoryChangeNotify(EntityPlayer player) {
@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.worldgen;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldSavedData;
+
+/**
+ * The chunks of a dimension that still have to be retrogenned, in the order they were loaded.
+ * Saved with the world, so retrogen continues where it stopped after a restart.
+ */
+public class RetrogenQueue extends WorldSavedData {
+	public static final String SAVE_NAME = "ForestryRetrogen";
+
+	/* The chunks as keys of ChunkPos.asLong: the x coordinate in the lower and the z coordinate in the upper 32 bits */
+	private final Deque<Long> chunks = new ArrayDeque<>();
+	private final Set<Long> queuedChunks = new HashSet<>();
+	private int processedCount;
+	/* Not saved, only used to estimate the remaining time */
+	private int sessionProcessedCount;
+	private int sessionTicks;
+
+	@SuppressWarnings("unused")
+	public RetrogenQueue(String s) {
+		super(s);
+	}
+
+	public static RetrogenQueue get(World world) {
+		String name = SAVE_NAME + world.provider.getDimension();
+		RetrogenQueue queue = (RetrogenQueue) world.loadData(RetrogenQueue.class, name);
+		if (queue == null) {
+			queue = new RetrogenQueue(name);
+			world.setData(name, queue);
+		}
+		return queue;
+	}
+
+	public void add(int chunkX, int chunkZ) {
+		long chunkKey = ChunkPos.asLong(chunkX, chunkZ);
+		if (queuedChunks.add(chunkKey)) {
+			chunks.add(chunkKey);
+			markDirty();
+		}
+	}
+
+	public boolean contains(int chunkX, int chunkZ) {
+		return queuedChunks.contains(ChunkPos.asLong(chunkX, chunkZ));
+	}
+
+	public boolean isEmpty() {
+		return chunks.isEmpty();
+	}
+
+	public int size() {
+		return chunks.size();
+	}
+
+	/**
+	 * @return the number of chunks that were retrogenned from this queue
+	 */
+	public int getProcessedCount() {
+		return processedCount;
+	}
+
+	/**
+	 * Removes the next chunk from the queue.
+	 *
+	 * @return the key of the chunk, see {@link #getChunkX(long)} and {@link #getChunkZ(long)}
+	 */
+	public long poll() {
+		long chunkKey = chunks.remove();
+		queuedChunks.remove(chunkKey);
+		markDirty();
+		return chunkKey;
+	}
+
+	/**
+	 * Counts a tick in which chunks were retrogenned from this queue.
+	 */
+	public void onChunksProcessed(int count) {
+		processedCount += count;
+		sessionProcessedCount += count;
+		sessionTicks++;
+		markDirty();
+	}
+
+	/**
+	 * @return the estimated number of seconds until the queue is empty at 20 ticks per second,
+	 * or -1 if no chunks were retrogenned since the world was loaded
+	 */
+	public long getEstimatedSeconds() {
+		if (sessionProcessedCount == 0) {
+			return -1;
+		}
+		return (long) chunks.size() * sessionTicks / (20L * sessionProcessedCount);
+	}
+
+	public static int getChunkX(long chunkKey) {
+		return (int) chunkKey;
+	}
+
+	public static int getChunkZ(long chunkKey) {
+		return (int) (chunkKey >>> 32);
+	}
+
+	@Override
+	public void readFromNBT(NBTTagCompound nbt) {
+		chunks.clear();
+		queuedChunks.clear();
+		int[] coords = nbt.getIntArray("Chunks");
+		for (int i = 0; i + 1 < coords.length; i += 2) {
+			add(coords[i], coords[i + 1]);
+		}
+		processedCount = nbt.getInteger("Processed");
+	}
+
+	@Override
+	public NBTTagCompound writeToNBT(NBTTagCompound nbt) {
+		int[] coords = new int[chunks.size() * 2];
+		int i = 0;
+		for (long chunkKey : chunks) {
+			coords[i++] = getChunkX(chunkKey);
+			coords[i++] = getChunkZ(chunkKey);
+		}
+		nbt.setIntArray("Chunks", coords);
+		nbt.setInteger("Processed", processedCount);
+		return nbt;
+	}
+}
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.worldgen;
+
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import forestry.core.config.Config;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.gen.ChunkProviderServer;
+import net.minecraftforge.common.DimensionManager;
+
+/**
+ * Retrogens the chunks of the {@link RetrogenQueue} of every world, as many as fit into the configured time per tick.
+ * <p>
+ * Chunks may be queued while they are loaded on the chunk loading thread, so they are only added to the queue of their
+ * world on the next tick of the server thread.
+ * <p>
+ * Chunks that were unloaded before their turn are dropped from the queue instead of being loaded again. They are saved
+ * without the retrogen mark (see {@link #isQueued(World, Chunk)}), so they are queued again when they are loaded.
+ */
+public class RetrogenScheduler {
+	private final WorldGenerator worldGenerator;
+	private final Queue<ChunkCoords> loadedChunks = new ConcurrentLinkedQueue<>();
+	private final Random random = new Random();
+
+	public RetrogenScheduler(WorldGenerator worldGenerator) {
+		this.worldGenerator = worldGenerator;
+	}
+
+	public void queue(Chunk chunk) {
+		loadedChunks.add(new ChunkCoords(chunk));
+	}
+
+	/**
+	 * @return true if the chunk was queued and not retrogenned yet
+	 */
+	public boolean isQueued(World world, Chunk chunk) {
+		if (RetrogenQueue.get(world).contains(chunk.xPosition, chunk.zPosition)) {
+			return true;
+		}
+		int dimension = world.provider.getDimension();
+		for (ChunkCoords coords : loadedChunks) {
+			if (coords.dimension == dimension && coords.xCoord == chunk.xPosition && coords.zCoord == chunk.zPosition) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public void tick(World world) {
+		ChunkCoords coords;
+		while ((coords = loadedChunks.poll()) != null) {
+			World chunkWorld = DimensionManager.getWorld(coords.dimension);
+			if (chunkWorld != null) {
+				RetrogenQueue.get(chunkWorld).add(coords.xCoord, coords.zCoord);
+			}
+		}
+
+		RetrogenQueue queue = RetrogenQueue.get(world);
+		if (queue.isEmpty()) {
+			return;
+		}
+
+		// This bit is from FML's GameRegistry.generateWorld where the seed is constructed.
+		long worldSeed = world.getSeed();
+		random.setSeed(worldSeed);
+		long xSeed = random.nextLong() >> 2 + 1L;
+		long zSeed = random.nextLong() >> 2 + 1L;
+
+		ChunkProviderServer chunkProvider = ((WorldServer) world).getChunkProvider();
+		long endTime = System.nanoTime() + Config.retrogenTickBudget * 1000000L;
+		int processed = 0;
+		do {
+			long chunkKey = queue.poll();
+			int chunkX = RetrogenQueue.getChunkX(chunkKey);
+			int chunkZ = RetrogenQueue.getChunkZ(chunkKey);
+			if (chunkProvider.getLoadedChunk(chunkX, chunkZ) == null) {
+				// queued again when it is loaded, loading it here would stall the tick
+				continue;
+			}
+			random.setSeed(xSeed * chunkX + zSeed * chunkZ ^ worldSeed);
+
+			worldGenerator.retroGen(random, chunkX, chunkZ, world);
+			processed++;
+		} while (!queue.isEmpty() && System.nanoTime() < endTime);
+		queue.onChunksProcessed(processed);
+	}
+
+	private static class ChunkCoords {
+		public final int dimension;
+		public final int xCoord;
+		public final int zCoord;
+
+		public ChunkCoords(Chunk chunk) {
+			this.dimension = chunk.getWorld().provider.getDimension();
+			this.xCoord = chunk.xPosition;
+			this.zCoord = chunk.zPosition;
+		}
+	}
+}
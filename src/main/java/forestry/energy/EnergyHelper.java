@@ -52,40 +52,29 @@ public class EnergyHelper {
 	 * @return amount sent
 	 */
 	public static int sendEnergy(EnergyManager energyManager, EnumFacing orientation, @Nullable TileEntity tile, int amount, boolean simulate) {
+		IEnergyStorage receiver = getEnergyReceiver(orientation.getOpposite(), tile);
+		if (receiver == null) {
+			return 0;
+		}
+		return sendEnergy(energyManager, receiver, amount, simulate);
+	}
+
+	/**
+	 * Sends amount of energy to a receiver from {@link #getEnergyReceiver(EnumFacing, TileEntity)}.
+	 * For power sources.
+	 *
+	 * @return amount sent
+	 */
+	public static int sendEnergy(EnergyManager energyManager, IEnergyStorage receiver, int amount, boolean simulate) {
 		int extractable = energyManager.extractEnergy(amount, true);
 		if (extractable > 0) {
-			EnumFacing side = orientation.getOpposite();
-			final int sent = sendEnergyToTile(tile, side, extractable, simulate);
+			final int sent = receiver.receiveEnergy(extractable, simulate);
 			energyManager.extractEnergy(sent, simulate);
 			return sent;
 		}
 		return 0;
 	}
 
-	private static int sendEnergyToTile(@Nullable TileEntity tile, EnumFacing side, int extractable, boolean simulate) {
-		if (tile == null) {
-			return 0;
-		}
-
-		if (tile instanceof TileEngine) { // engine chaining
-			TileEngine receptor = (TileEngine) tile;
-			return receptor.getEnergyManager().receiveEnergy(extractable, simulate);
-		}
-
-		if (tile.hasCapability(CapabilityEnergy.ENERGY, side)) {
-			IEnergyStorage energyStorage = tile.getCapability(CapabilityEnergy.ENERGY, side);
-			if (energyStorage != null) {
-				return energyStorage.receiveEnergy(extractable, simulate);
-			}
-		}
-
-		if (TeslaHelper.isEnergyReceiver(tile, side)) {
-			return TeslaHelper.sendEnergy(tile, side, extractable, simulate);
-		}
-
-		return 0;
-	}
-
 	/**
 	 * @return whether this can send energy to the target tile
 	 */
@@ -94,18 +83,38 @@ public class EnergyHelper {
 	}
 
 	public static boolean isEnergyReceiverOrEngine(EnumFacing side, @Nullable TileEntity tile) {
+		IEnergyStorage receiver = getEnergyReceiver(side, tile);
+		return receiver != null && receiver.canReceive();
+	}
+
+	/**
+	 * Finds the energy storage that a power source can send energy to on the given side of the tile.
+	 * Power sources can keep it until the tile was changed, instead of looking it up for every transfer.
+	 *
+	 * @return null if the tile has no energy storage on this side
+	 */
+	@Nullable
+	public static IEnergyStorage getEnergyReceiver(EnumFacing side, @Nullable TileEntity tile) {
 		if (tile == null) {
-			return false;
+			return null;
 		}
+
 		if (tile instanceof TileEngine) { // engine chaining
-			return true;
+			TileEngine receptor = (TileEngine) tile;
+			return receptor.getEnergyManager();
 		}
 
 		if (tile.hasCapability(CapabilityEnergy.ENERGY, side)) {
 			IEnergyStorage energyStorage = tile.getCapability(CapabilityEnergy.ENERGY, side);
-			return energyStorage != null && energyStorage.canReceive();
+			if (energyStorage != null) {
+				return energyStorage;
+			}
+		}
+
+		if (TeslaHelper.isEnergyReceiver(tile, side)) {
+			return TeslaHelper.getEnergyReceiver(tile, side);
 		}
 
-		return TeslaHelper.isEnergyReceiver(tile, side);
+		return null;
 	}
 }
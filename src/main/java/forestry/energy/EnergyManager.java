@@ -71,6 +71,10 @@ public class EnergyManager extends EnergyStorage implements IStreamable, INbtRea
 		return this.maxReceive;
 	}
 
+	public int getMaxEnergyExtracted() {
+		return this.maxExtract;
+	}
+
 	/**
 	 * Drains an amount of energy, due to decay from lack of work or other factors
 	 */
@@ -11,6 +11,7 @@ import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.CapabilityInject;
+import net.minecraftforge.energy.IEnergyStorage;
 import net.minecraftforge.fml.common.Optional;
 
 public class TeslaHelper {
@@ -42,6 +43,13 @@ public class TeslaHelper {
 		}
 	}
 
+	/**
+	 * @return the Tesla consumer of the tile as an energy storage that can only receive energy
+	 */
+	public static IEnergyStorage getEnergyReceiver(TileEntity tile, EnumFacing side) {
+		return new ConsumerStorage(tile, side);
+	}
+
 	@Optional.Method(modid = Constants.TESLA_MOD_ID)
 	private static boolean _isEnergyReceiver(TileEntity tile, EnumFacing side) {
 		return TeslaHelper.TESLA_CONSUMER != null && tile.hasCapability(TeslaHelper.TESLA_CONSUMER, side);
@@ -58,4 +66,44 @@ public class TeslaHelper {
 		}
 		return (int) consumer.givePower(amount, simulate);
 	}
+
+	private static class ConsumerStorage implements IEnergyStorage {
+		private final TileEntity tile;
+		private final EnumFacing side;
+
+		public ConsumerStorage(TileEntity tile, EnumFacing side) {
+			this.tile = tile;
+			this.side = side;
+		}
+
+		@Override
+		public int receiveEnergy(int maxReceive, boolean simulate) {
+			return sendEnergy(tile, side, maxReceive, simulate);
+		}
+
+		@Override
+		public int extractEnergy(int maxExtract, boolean simulate) {
+			return 0;
+		}
+
+		@Override
+		public int getEnergyStored() {
+			return 0;
+		}
+
+		@Override
+		public int getMaxEnergyStored() {
+			return 0;
+		}
+
+		@Override
+		public boolean canExtract() {
+			return false;
+		}
+
+		@Override
+		public boolean canReceive() {
+			return true;
+		}
+	}
 }
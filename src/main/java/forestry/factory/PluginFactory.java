@@ -22,9 +22,13 @@ import net.minecraft.init.Items;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.NonNullList;
 
+import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.oredict.OreDictionary;
+
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 
 import forestry.api.circuits.ChipsetManager;
 import forestry.api.circuits.CircuitSocketType;
@@ -68,6 +72,7 @@ import forestry.factory.recipes.FabricatorRecipeManager;
 import forestry.factory.recipes.FabricatorSmeltingRecipeManager;
 import forestry.factory.recipes.FermenterRecipeManager;
 import forestry.factory.recipes.MoistenerRecipeManager;
+import forestry.factory.recipes.RecipeIndex;
 import forestry.factory.recipes.SqueezerRecipeManager;
 import forestry.factory.recipes.StillRecipeManager;
 import forestry.plugins.BlankForestryPlugin;
@@ -95,6 +100,7 @@ public class PluginFactory extends BlankForestryPlugin {
 		RecipeManagers.moistenerManager = new MoistenerRecipeManager();
 		RecipeManagers.squeezerManager = new SqueezerRecipeManager();
 		RecipeManagers.stillManager = new StillRecipeManager();
+		MinecraftForge.EVENT_BUS.register(this);
 
 		setupFuelManager();
 	}
@@ -630,4 +636,9 @@ public class PluginFactory extends BlankForestryPlugin {
 				'W', "craftingTableWood",
 				'C', "chestWood");
 	}
+
+	@SubscribeEvent
+	public void onOreRegister(OreDictionary.OreRegisterEvent event) {
+		RecipeIndex.onOreRegister();
+	}
 }
@@ -11,12 +11,15 @@
 package forestry.factory.recipes;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import net.minecraft.inventory.IInventory;
 import net.minecraft.item.ItemStack;
+import net.minecraft.util.NonNullList;
 
 import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidStack;
@@ -33,6 +36,18 @@ public class CarpenterRecipeManager implements ICarpenterManager {
 
 	private static final Set<ICarpenterRecipe> recipes = new HashSet<>();
 	private static final Set<Fluid> recipeFluids = new HashSet<>();
+	private static final RecipeIndex<ICarpenterRecipe> gridIndex = new RecipeIndex<>(recipes, (recipe, keys) -> {
+		// every item of the grid must match one of the alternatives of the first ingredient
+		for (NonNullList<ItemStack> ingredient : recipe.getCraftingGridRecipe().getIngredients()) {
+			if (!ingredient.isEmpty()) {
+				for (ItemStack alternative : ingredient) {
+					keys.addItem(alternative);
+				}
+				break;
+			}
+		}
+	});
+	private static final RecipeIndex<ICarpenterRecipe> boxIndex = new RecipeIndex<>(recipes, (recipe, keys) -> keys.addItem(recipe.getBox()));
 
 	@Override
 	public void addRecipe(ItemStack box, ItemStack product, Object materials[]) {
@@ -52,7 +67,11 @@ public class CarpenterRecipeManager implements ICarpenterManager {
 
 	@Nullable
 	public static RecipePair<ICarpenterRecipe> findMatchingRecipe(@Nullable FluidStack liquid, ItemStack item, IInventory inventorycrafting) {
-		for (ICarpenterRecipe recipe : recipes) {
+		List<ItemStack> gridStacks = new ArrayList<>();
+		for (int i = 0; i < inventorycrafting.getSizeInventory(); i++) {
+			gridStacks.add(inventorycrafting.getStackInSlot(i));
+		}
+		for (ICarpenterRecipe recipe : gridIndex.getCandidates(gridStacks)) {
 			String[][] resourceDicts = matches(recipe, liquid, item, inventorycrafting);
 			if (resourceDicts != null) {
 				return new RecipePair(recipe, resourceDicts);
@@ -87,7 +106,7 @@ public class CarpenterRecipeManager implements ICarpenterManager {
 			return false;
 		}
 
-		for (ICarpenterRecipe recipe : recipes) {
+		for (ICarpenterRecipe recipe : boxIndex.getCandidates(resource)) {
 			ItemStack box = recipe.getBox();
 			if (ItemStackUtil.isIdenticalItem(box, resource)) {
 				return true;
@@ -99,7 +118,11 @@ public class CarpenterRecipeManager implements ICarpenterManager {
 
 	@Override
 	public boolean addRecipe(ICarpenterRecipe recipe) {
-		return recipes.add(recipe);
+		boolean added = recipes.add(recipe);
+		if (added) {
+			invalidateIndexes();
+		}
+		return added;
 	}
 
 	@Override
@@ -107,10 +130,16 @@ public class CarpenterRecipeManager implements ICarpenterManager {
 		boolean removed = recipes.remove(recipe);
 		if (removed) {
 			recipeFluids.clear();
+			invalidateIndexes();
 		}
 		return removed;
 	}
 
+	private static void invalidateIndexes() {
+		gridIndex.invalidate();
+		boxIndex.invalidate();
+	}
+
 	public static Set<Fluid> getRecipeFluids() {
 		if (recipeFluids.isEmpty()) {
 			for (ICarpenterRecipe recipe : recipes) {
@@ -24,6 +24,7 @@ import net.minecraft.item.ItemStack;
 public class CentrifugeRecipeManager implements ICentrifugeManager {
 
 	private static final Set<ICentrifugeRecipe> recipes = new HashSet<>();
+	private static final RecipeIndex<ICentrifugeRecipe> index = new RecipeIndex<>(recipes, (recipe, keys) -> keys.addItem(recipe.getInput()));
 
 	@Override
 	public void addRecipe(int timePerItem, ItemStack resource, Map<ItemStack, Float> products) {
@@ -37,7 +38,7 @@ public class CentrifugeRecipeManager implements ICentrifugeManager {
 			return null;
 		}
 
-		for (ICentrifugeRecipe recipe : recipes) {
+		for (ICentrifugeRecipe recipe : index.getCandidates(itemStack)) {
 			ItemStack recipeInput = recipe.getInput();
 			if (ItemStackUtil.isCraftingEquivalent(recipeInput, itemStack)) {
 				return recipe;
@@ -48,12 +49,20 @@ public class CentrifugeRecipeManager implements ICentrifugeManager {
 
 	@Override
 	public boolean addRecipe(ICentrifugeRecipe recipe) {
-		return recipes.add(recipe);
+		boolean added = recipes.add(recipe);
+		if (added) {
+			index.invalidate();
+		}
+		return added;
 	}
 
 	@Override
 	public boolean removeRecipe(ICentrifugeRecipe recipe) {
-		return recipes.remove(recipe);
+		boolean removed = recipes.remove(recipe);
+		if (removed) {
+			index.invalidate();
+		}
+		return removed;
 	}
 
 	@Override
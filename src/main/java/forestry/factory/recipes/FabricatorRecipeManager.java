@@ -11,8 +11,10 @@
 package forestry.factory.recipes;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import net.minecraft.inventory.IInventory;
@@ -31,6 +33,18 @@ import forestry.core.utils.ItemStackUtil;
 public class FabricatorRecipeManager implements IFabricatorManager {
 	
 	private static final Set<IFabricatorRecipe> recipes = new HashSet<>();
+	private static final RecipeIndex<IFabricatorRecipe> gridIndex = new RecipeIndex<>(recipes, (recipe, keys) -> {
+		// every item of the grid must match one of the alternatives of the first ingredient
+		for (NonNullList<ItemStack> ingredient : recipe.getIngredients()) {
+			if (!ingredient.isEmpty()) {
+				for (ItemStack alternative : ingredient) {
+					keys.addItem(alternative);
+				}
+				break;
+			}
+		}
+	});
+	private static final RecipeIndex<IFabricatorRecipe> planIndex = new RecipeIndex<>(recipes, (recipe, keys) -> keys.addItem(recipe.getPlan()));
 
 	@Override
 	public void addRecipe(ItemStack plan, FluidStack molten, ItemStack result, Object[] pattern) {
@@ -44,8 +58,12 @@ public class FabricatorRecipeManager implements IFabricatorManager {
 	@Nullable
 	public static RecipePair<IFabricatorRecipe> findMatchingRecipe(ItemStack plan, IInventory resources) {
 		ItemStack[][] gridResources = RecipeUtil.getResources(resources);
+		List<ItemStack> gridStacks = new ArrayList<>();
+		for (ItemStack[] column : gridResources) {
+			Collections.addAll(gridStacks, column);
+		}
 
-		for (IFabricatorRecipe recipe : recipes) {
+		for (IFabricatorRecipe recipe : gridIndex.getCandidates(gridStacks)) {
 			if (!recipe.getPlan().isEmpty() && !ItemStackUtil.isCraftingEquivalent(recipe.getPlan(), plan)) {
 				continue;
 			}
@@ -59,7 +77,11 @@ public class FabricatorRecipeManager implements IFabricatorManager {
 	}
 
 	public static boolean isPlan(ItemStack plan) {
-		for (IFabricatorRecipe recipe : recipes) {
+		if (plan.isEmpty()) {
+			return false;
+		}
+
+		for (IFabricatorRecipe recipe : planIndex.getCandidates(plan)) {
 			if (ItemStackUtil.isIdenticalItem(recipe.getPlan(), plan)) {
 				return true;
 			}
@@ -70,12 +92,25 @@ public class FabricatorRecipeManager implements IFabricatorManager {
 
 	@Override
 	public boolean addRecipe(IFabricatorRecipe recipe) {
-		return recipes.add(recipe);
+		boolean added = recipes.add(recipe);
+		if (added) {
+			invalidateIndexes();
+		}
+		return added;
 	}
 
 	@Override
 	public boolean removeRecipe(IFabricatorRecipe recipe) {
-		return recipes.remove(recipe);
+		boolean removed = recipes.remove(recipe);
+		if (removed) {
+			invalidateIndexes();
+		}
+		return removed;
+	}
+
+	private static void invalidateIndexes() {
+		gridIndex.invalidate();
+		planIndex.invalidate();
 	}
 
 	@Override
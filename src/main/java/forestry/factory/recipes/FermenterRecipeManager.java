@@ -31,6 +31,10 @@ public class FermenterRecipeManager implements IFermenterManager {
 	private static final Set<IFermenterRecipe> recipes = new TreeSet<>();
 	public static final Set<Fluid> recipeFluidInputs = new HashSet<>();
 	public static final Set<Fluid> recipeFluidOutputs = new HashSet<>();
+	private static final RecipeIndex<IFermenterRecipe> index = new RecipeIndex<>(recipes, (recipe, keys) -> {
+		keys.addItem(recipe.getResource());
+		keys.addOreName(recipe.getResourceOreName());
+	});
 
 	@Override
 	public void addRecipe(ItemStack resource, int fermentationValue, float modifier, FluidStack output, FluidStack liquid) {
@@ -59,7 +63,7 @@ public class FermenterRecipeManager implements IFermenterManager {
 		if(res.isEmpty()){
 			return null;
 		}
-		for (IFermenterRecipe recipe : recipes) {
+		for (IFermenterRecipe recipe : index.getCandidates(res)) {
 			if (matches(recipe, res, liqu)) {
 				return recipe;
 			}
@@ -82,7 +86,7 @@ public class FermenterRecipeManager implements IFermenterManager {
 			return false;
 		}
 
-		for (IFermenterRecipe recipe : recipes) {
+		for (IFermenterRecipe recipe : index.getCandidates(resource)) {
 			if (ItemStackUtil.isCraftingEquivalent(recipe.getResource(), resource, recipe.getResourceOreName(), false)) {
 				return true;
 			}
@@ -98,7 +102,11 @@ public class FermenterRecipeManager implements IFermenterManager {
 		Fluid output = recipe.getOutput();
 		recipeFluidOutputs.add(output);
 
-		return recipes.add(recipe);
+		boolean added = recipes.add(recipe);
+		if (added) {
+			index.invalidate();
+		}
+		return added;
 	}
 
 	@Override
@@ -109,7 +117,11 @@ public class FermenterRecipeManager implements IFermenterManager {
 		Fluid output = recipe.getOutput();
 		recipeFluidOutputs.remove(output);
 
-		return recipes.remove(recipe);
+		boolean removed = recipes.remove(recipe);
+		if (removed) {
+			index.invalidate();
+		}
+		return removed;
 	}
 
 	@Override
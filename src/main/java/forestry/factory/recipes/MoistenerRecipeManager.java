@@ -23,6 +23,7 @@ import net.minecraft.item.ItemStack;
 public class MoistenerRecipeManager implements IMoistenerManager {
 
 	private static final Set<IMoistenerRecipe> recipes = new HashSet<>();
+	private static final RecipeIndex<IMoistenerRecipe> index = new RecipeIndex<>(recipes, (recipe, keys) -> keys.addItem(recipe.getResource()));
 
 	@Override
 	public void addRecipe(ItemStack resource, ItemStack product, int timePerItem) {
@@ -35,7 +36,7 @@ public class MoistenerRecipeManager implements IMoistenerManager {
 			return false;
 		}
 
-		for (IMoistenerRecipe rec : recipes) {
+		for (IMoistenerRecipe rec : index.getCandidates(resource)) {
 			if (ItemStackUtil.isIdenticalItem(resource, rec.getResource())) {
 				return true;
 			}
@@ -46,7 +47,7 @@ public class MoistenerRecipeManager implements IMoistenerManager {
 
 	@Nullable
 	public static IMoistenerRecipe findMatchingRecipe(ItemStack item) {
-		for (IMoistenerRecipe recipe : recipes) {
+		for (IMoistenerRecipe recipe : index.getCandidates(item)) {
 			if (ItemStackUtil.isCraftingEquivalent(recipe.getResource(), item)) {
 				return recipe;
 			}
@@ -56,12 +57,20 @@ public class MoistenerRecipeManager implements IMoistenerManager {
 
 	@Override
 	public boolean addRecipe(IMoistenerRecipe recipe) {
-		return recipes.add(recipe);
+		boolean added = recipes.add(recipe);
+		if (added) {
+			index.invalidate();
+		}
+		return added;
 	}
 
 	@Override
 	public boolean removeRecipe(IMoistenerRecipe recipe) {
-		return recipes.remove(recipe);
+		boolean removed = recipes.remove(recipe);
+		if (removed) {
+			index.invalidate();
+		}
+		return removed;
 	}
 
 	@Override
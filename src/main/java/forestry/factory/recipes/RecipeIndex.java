@@ -0,0 +1,289 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.factory.recipes;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+
+import net.minecraftforge.fluids.Fluid;
+import net.minecraftforge.oredict.OreDictionary;
+
+/**
+ * Narrows down the recipes of a recipe manager to the candidates that can match an input,
+ * so only the candidates have to be checked by the full matching of the manager.
+ * <p>
+ * Every recipe is registered by the {@link IKeyProvider} of the manager under the items, ore dictionary ids and fluids
+ * that an input must contain to match it. Recipes without such a key are candidates for every input.
+ * The candidates are returned in the iteration order of the recipes, so the first matching candidate is the same
+ * recipe that a search over all recipes finds.
+ * <p>
+ * The index is rebuilt lazily on the next lookup after the recipes were changed, so it stays correct when recipes are
+ * added or removed at runtime. It is also rebuilt after ore dictionary registrations, since the ore dictionary ids of
+ * the recipe inputs are part of the keys.
+ */
+public class RecipeIndex<R> {
+	/* Counts the ore dictionary registrations, an index that was built for an older count is stale. */
+	private static volatile int oreDictVersion;
+
+	private final Collection<R> recipes;
+	private final IKeyProvider<R> keyProvider;
+	@Nullable
+	private volatile Index<R> index;
+
+	/**
+	 * @param recipes the live recipes of the manager. {@link #invalidate()} must be called after they were changed.
+	 */
+	public RecipeIndex(Collection<R> recipes, IKeyProvider<R> keyProvider) {
+		this.recipes = recipes;
+		this.keyProvider = keyProvider;
+	}
+
+	public void invalidate() {
+		index = null;
+	}
+
+	/**
+	 * Invalidates all indices, must be called when an ore dictionary entry was registered.
+	 */
+	public static void onOreRegister() {
+		oreDictVersion++;
+	}
+
+	/**
+	 * @return the recipes that are indexed under the item or under one of the ore dictionary ids of the stack
+	 */
+	public List<R> getCandidates(ItemStack stack) {
+		Index<R> index = getIndex();
+		BitSet candidates = index.newCandidates();
+		index.addItemCandidates(stack, candidates);
+		return index.toRecipes(candidates);
+	}
+
+	/**
+	 * @return the recipes that are indexed under the item or under one of the ore dictionary ids of any of the stacks
+	 */
+	public List<R> getCandidates(Iterable<ItemStack> stacks) {
+		Index<R> index = getIndex();
+		BitSet candidates = index.newCandidates();
+		for (ItemStack stack : stacks) {
+			index.addItemCandidates(stack, candidates);
+		}
+		return index.toRecipes(candidates);
+	}
+
+	/**
+	 * @return the recipes that are indexed under the fluid
+	 */
+	public List<R> getCandidates(@Nullable Fluid fluid) {
+		Index<R> index = getIndex();
+		BitSet candidates = index.newCandidates();
+		if (fluid != null) {
+			index.addCandidates(index.byFluid.get(fluid), candidates);
+		}
+		return index.toRecipes(candidates);
+	}
+
+	private Index<R> getIndex() {
+		Index<R> index = this.index;
+		if (index == null || index.oreDictVersion != oreDictVersion) {
+			synchronized (this) {
+				index = this.index;
+				if (index == null || index.oreDictVersion != oreDictVersion) {
+					index = new Index<>(recipes, keyProvider, oreDictVersion);
+					this.index = index;
+				}
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Registers the keys of a recipe. A recipe without any key is a candidate for every input.
+	 */
+	public interface IKeyProvider<R> {
+		void addKeys(R recipe, IKeys keys);
+	}
+
+	public interface IKeys {
+		/**
+		 * Registers the item and the damage of the stack. {@link OreDictionary#WILDCARD_VALUE} matches every damage.
+		 * Empty stacks are ignored.
+		 */
+		void addItem(ItemStack stack);
+
+		void addOreName(@Nullable String oreName);
+
+		/**
+		 * Registers all ore dictionary ids of the stack.
+		 */
+		void addOreIds(ItemStack stack);
+
+		void addFluid(@Nullable Fluid fluid);
+	}
+
+	/**
+	 * Immutable snapshot of the index. The recipe lists of the keys contain the positions of the recipes in ascending order.
+	 */
+	private static class Index<R> {
+		private final List<R> recipes;
+		private final Map<Item, Map<Integer, int[]>> byItem = new IdentityHashMap<>();
+		private final Map<Integer, int[]> byOreId = new HashMap<>();
+		private final Map<Fluid, int[]> byFluid = new HashMap<>();
+		private final int[] unkeyed;
+		private final int oreDictVersion;
+
+		public Index(Collection<R> recipes, IKeyProvider<R> keyProvider, int oreDictVersion) {
+			this.recipes = new ArrayList<>(recipes);
+			this.oreDictVersion = oreDictVersion;
+
+			Map<Item, Map<Integer, List<Integer>>> byItem = new IdentityHashMap<>();
+			Map<Integer, List<Integer>> byOreId = new HashMap<>();
+			Map<Fluid, List<Integer>> byFluid = new HashMap<>();
+			List<Integer> unkeyed = new ArrayList<>();
+
+			for (int i = 0; i < this.recipes.size(); i++) {
+				Keys keys = new Keys(i, byItem, byOreId, byFluid);
+				keyProvider.addKeys(this.recipes.get(i), keys);
+				if (!keys.hasKeys) {
+					unkeyed.add(i);
+				}
+			}
+
+			for (Map.Entry<Item, Map<Integer, List<Integer>>> entry : byItem.entrySet()) {
+				Map<Integer, int[]> byDamage = new HashMap<>();
+				for (Map.Entry<Integer, List<Integer>> damageEntry : entry.getValue().entrySet()) {
+					byDamage.put(damageEntry.getKey(), toArray(damageEntry.getValue()));
+				}
+				this.byItem.put(entry.getKey(), byDamage);
+			}
+			for (Map.Entry<Integer, List<Integer>> entry : byOreId.entrySet()) {
+				this.byOreId.put(entry.getKey(), toArray(entry.getValue()));
+			}
+			for (Map.Entry<Fluid, List<Integer>> entry : byFluid.entrySet()) {
+				this.byFluid.put(entry.getKey(), toArray(entry.getValue()));
+			}
+			this.unkeyed = toArray(unkeyed);
+		}
+
+		public BitSet newCandidates() {
+			BitSet candidates = new BitSet(recipes.size());
+			addCandidates(unkeyed, candidates);
+			return candidates;
+		}
+
+		public void addItemCandidates(ItemStack stack, BitSet candidates) {
+			if (stack.isEmpty()) {
+				return;
+			}
+			Map<Integer, int[]> byDamage = byItem.get(stack.getItem());
+			if (byDamage != null) {
+				addCandidates(byDamage.get(stack.getItemDamage()), candidates);
+				addCandidates(byDamage.get(OreDictionary.WILDCARD_VALUE), candidates);
+			}
+			if (!byOreId.isEmpty()) {
+				for (int oreId : OreDictionary.getOreIDs(stack)) {
+					addCandidates(byOreId.get(oreId), candidates);
+				}
+			}
+		}
+
+		public void addCandidates(@Nullable int[] positions, BitSet candidates) {
+			if (positions != null) {
+				for (int position : positions) {
+					candidates.set(position);
+				}
+			}
+		}
+
+		public List<R> toRecipes(BitSet candidates) {
+			if (candidates.isEmpty()) {
+				return Collections.emptyList();
+			}
+			List<R> candidateRecipes = new ArrayList<>(candidates.cardinality());
+			for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+				candidateRecipes.add(recipes.get(i));
+			}
+			return candidateRecipes;
+		}
+
+		private static int[] toArray(List<Integer> positions) {
+			int[] array = new int[positions.size()];
+			for (int i = 0; i < array.length; i++) {
+				array[i] = positions.get(i);
+			}
+			return array;
+		}
+	}
+
+	private static class Keys implements IKeys {
+		private final Integer position;
+		private final Map<Item, Map<Integer, List<Integer>>> byItem;
+		private final Map<Integer, List<Integer>> byOreId;
+		private final Map<Fluid, List<Integer>> byFluid;
+		private boolean hasKeys;
+
+		public Keys(int position, Map<Item, Map<Integer, List<Integer>>> byItem, Map<Integer, List<Integer>> byOreId, Map<Fluid, List<Integer>> byFluid) {
+			this.position = position;
+			this.byItem = byItem;
+			this.byOreId = byOreId;
+			this.byFluid = byFluid;
+		}
+
+		@Override
+		public void addItem(ItemStack stack) {
+			if (!stack.isEmpty()) {
+				Map<Integer, List<Integer>> byDamage = byItem.computeIfAbsent(stack.getItem(), k -> new HashMap<>());
+				add(byDamage.computeIfAbsent(stack.getItemDamage(), k -> new ArrayList<>()));
+			}
+		}
+
+		@Override
+		public void addOreName(@Nullable String oreName) {
+			if (oreName != null && !oreName.isEmpty()) {
+				add(byOreId.computeIfAbsent(OreDictionary.getOreID(oreName), k -> new ArrayList<>()));
+			}
+		}
+
+		@Override
+		public void addOreIds(ItemStack stack) {
+			if (!stack.isEmpty()) {
+				for (int oreId : OreDictionary.getOreIDs(stack)) {
+					add(byOreId.computeIfAbsent(oreId, k -> new ArrayList<>()));
+				}
+			}
+		}
+
+		@Override
+		public void addFluid(@Nullable Fluid fluid) {
+			if (fluid != null) {
+				add(byFluid.computeIfAbsent(fluid, k -> new ArrayList<>()));
+			}
+		}
+
+		/* Positions are added in ascending order, a recipe with the same key twice is only added once. */
+		private void add(List<Integer> positions) {
+			if (positions.isEmpty() || !positions.get(positions.size() - 1).equals(position)) {
+				positions.add(position);
+			}
+			hasKeys = true;
+		}
+	}
+}
@@ -13,6 +13,7 @@ package forestry.factory.recipes;
 import javax.annotation.Nullable;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import forestry.api.recipes.ISqueezerManager;
@@ -28,6 +29,12 @@ public class SqueezerRecipeManager implements ISqueezerManager {
 
 	private static final Set<ISqueezerRecipe> recipes = new HashSet<>();
 	public static final ItemStackMap<ISqueezerContainerRecipe> containerRecipes = new ItemStackMap<>();
+	private static final RecipeIndex<ISqueezerRecipe> index = new RecipeIndex<>(recipes, (recipe, keys) -> {
+		for (ItemStack resource : recipe.getResources()) {
+			keys.addItem(resource);
+			keys.addOreIds(resource);
+		}
+	});
 
 	@Override
 	public void addRecipe(int timePerItem, NonNullList<ItemStack> resources, FluidStack liquid, ItemStack remnants, int chance) {
@@ -81,15 +88,18 @@ public class SqueezerRecipeManager implements ISqueezerManager {
 			}
 		}
 
+		// Every resource of a recipe is indexed, so recipes that share no item with the input can't match
+		List<ISqueezerRecipe> candidates = index.getCandidates(items);
+
 		// First try to match a specific recipe (without OreDictionary)
-		for (ISqueezerRecipe recipe : recipes) {
+		for (ISqueezerRecipe recipe : candidates) {
 			if (ItemStackUtil.containsSets(recipe.getResources(), items, false, false) > 0) {
 				return recipe;
 			}
 		}
 
 		// If that fails - try again with OreDictionary support enabled
-		for (ISqueezerRecipe recipe : recipes) {
+		for (ISqueezerRecipe recipe : candidates) {
 			if (ItemStackUtil.containsSets(recipe.getResources(), items, true, false) > 0) {
 				return recipe;
 			}
@@ -99,7 +109,7 @@ public class SqueezerRecipeManager implements ISqueezerManager {
 	}
 
 	public static boolean canUse(ItemStack itemStack) {
-		for (ISqueezerRecipe recipe : recipes) {
+		for (ISqueezerRecipe recipe : index.getCandidates(itemStack)) {
 			for (ItemStack recipeInput : recipe.getResources()) {
 				if (ItemStackUtil.isCraftingEquivalent(recipeInput, itemStack, true, false)) {
 					return true;
@@ -112,12 +122,20 @@ public class SqueezerRecipeManager implements ISqueezerManager {
 
 	@Override
 	public boolean addRecipe(ISqueezerRecipe recipe) {
-		return recipes.add(recipe);
+		boolean added = recipes.add(recipe);
+		if (added) {
+			index.invalidate();
+		}
+		return added;
 	}
 
 	@Override
 	public boolean removeRecipe(ISqueezerRecipe recipe) {
-		return recipes.remove(recipe);
+		boolean removed = recipes.remove(recipe);
+		if (removed) {
+			index.invalidate();
+		}
+		return removed;
 	}
 
 	@Override
@@ -25,6 +25,7 @@ public class StillRecipeManager implements IStillManager {
 	private static final Set<IStillRecipe> recipes = new HashSet<>();
 	public static final Set<Fluid> recipeFluidInputs = new HashSet<>();
 	public static final Set<Fluid> recipeFluidOutputs = new HashSet<>();
+	private static final RecipeIndex<IStillRecipe> index = new RecipeIndex<>(recipes, (recipe, keys) -> keys.addFluid(recipe.getInput().getFluid()));
 
 	@Override
 	public void addRecipe(int timePerUnit, FluidStack input, FluidStack output) {
@@ -37,7 +38,7 @@ public class StillRecipeManager implements IStillManager {
 		if (item == null) {
 			return null;
 		}
-		for (IStillRecipe recipe : recipes) {
+		for (IStillRecipe recipe : index.getCandidates(item.getFluid())) {
 			if (matches(recipe, item)) {
 				return recipe;
 			}
@@ -60,7 +61,11 @@ public class StillRecipeManager implements IStillManager {
 		FluidStack output = recipe.getOutput();
 		recipeFluidOutputs.add(output.getFluid());
 
-		return recipes.add(recipe);
+		boolean added = recipes.add(recipe);
+		if (added) {
+			index.invalidate();
+		}
+		return added;
 	}
 
 	@Override
@@ -71,7 +76,11 @@ public class StillRecipeManager implements IStillManager {
 		FluidStack output = recipe.getOutput();
 		recipeFluidOutputs.remove(output.getFluid());
 
-		return recipes.remove(recipe);
+		boolean removed = recipes.remove(recipe);
+		if (removed) {
+			index.invalidate();
+		}
+		return removed;
 	}
 
 	@Override
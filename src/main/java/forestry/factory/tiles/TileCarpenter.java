@@ -60,12 +60,15 @@ public class TileCarpenter extends TilePowered implements ISidedInventory, ILiqu
 
 	private final FilteredTank resourceTank;
 	private final TankManager tankManager;
+	private final InventoryCarpenter inventory;
 	private final InventoryAdapterTile craftingInventory;
 	private final InventoryCraftResult craftPreviewInventory;
 
 	@Nullable
 	private ICarpenterRecipe currentRecipe;
 	private NonNullList<String> oreDicts;
+	// the change version of the last recipe check
+	private long recipeChangeVersion = NO_CHANGE_VERSION;
 
 	private ItemStack getBoxStack() {
 		return getInternalInventory().getStackInSlot(InventoryCarpenter.SLOT_BOX);
@@ -78,7 +81,8 @@ public class TileCarpenter extends TilePowered implements ISidedInventory, ILiqu
 
 		craftingInventory = new InventoryGhostCrafting<>(this, 10);
 		craftPreviewInventory = new InventoryCraftResult();
-		setInternalInventory(new InventoryCarpenter(this));
+		inventory = new InventoryCarpenter(this);
+		setInternalInventory(inventory);
 
 		tankManager = new TankManager(this, resourceTank);
 	}
@@ -204,8 +208,10 @@ public class TileCarpenter extends TilePowered implements ISidedInventory, ILiqu
 	/* STATE INFORMATION */
 	@Override
 	public boolean hasWork() {
-		if (updateOnInterval(20)) {
+		long changeVersion = getChangeVersion();
+		if (changeVersion != recipeChangeVersion) {
 			checkRecipe();
+			recipeChangeVersion = changeVersion;
 		}
 
 		boolean hasRecipe = currentRecipe != null;
@@ -230,6 +236,11 @@ public class TileCarpenter extends TilePowered implements ISidedInventory, ILiqu
 		return hasRecipe && hasItemResources && hasLiquidResources && canAdd;
 	}
 
+	@Override
+	protected long getChangeVersion() {
+		return getDirtyVersion() + inventory.getChangeVersion() + craftingInventory.getChangeVersion() + resourceTank.getChangeVersion();
+	}
+
 	@Override
 	public TankRenderInfo getResourceTankInfo() {
 		return new TankRenderInfo(resourceTank);
@@ -40,7 +40,6 @@ import forestry.core.errors.EnumErrorCode;
 import forestry.core.fluids.FilteredTank;
 import forestry.core.fluids.Fluids;
 import forestry.core.fluids.TankManager;
-import forestry.core.inventory.IInventoryAdapter;
 import forestry.core.inventory.InventoryAdapter;
 import forestry.core.inventory.InventoryAdapterTile;
 import forestry.core.inventory.watchers.ISlotPickupWatcher;
@@ -61,17 +60,24 @@ import forestry.factory.recipes.FabricatorSmeltingRecipeManager;
 public class TileFabricator extends TilePowered implements ISlotPickupWatcher, ILiquidTankTile, ISidedInventory {
 	private static final int MAX_HEAT = 5000;
 
+	private final InventoryFabricator inventory;
 	private final InventoryAdapterTile craftingInventory;
 	private final TankManager tankManager;
 	private final FilteredTank moltenTank;
 	private int heat = 0;
 	private int meltingPoint = 0;
 
+	private RecipePair<IFabricatorRecipe> cachedRecipePair = RecipePair.EMPTY;
+	// the change versions of the last recipe search and of the last resource check of hasWork()
+	private long recipeChangeVersion = NO_CHANGE_VERSION;
+	private long hasWorkChangeVersion = NO_CHANGE_VERSION;
+
 	public TileFabricator() {
 		super(1100, 3300);
 		setEnergyPerWorkCycle(200);
 		craftingInventory = new InventoryGhostCrafting<>(this, InventoryGhostCrafting.SLOT_CRAFTING_COUNT);
-		setInternalInventory(new InventoryFabricator(this));
+		inventory = new InventoryFabricator(this);
+		setInternalInventory(inventory);
 
 		moltenTank = new FilteredTank(8 * Fluid.BUCKET_VOLUME, false, false).setFilters(Fluids.GLASS.getFluid());
 
@@ -136,8 +142,6 @@ public class TileFabricator extends TilePowered implements ISlotPickupWatcher, I
 	}
 
 	private void trySmelting() {
-		IInventoryAdapter inventory = getInternalInventory();
-
 		ItemStack smeltResource = inventory.getStackInSlot(InventoryFabricator.SLOT_METAL);
 		if (smeltResource.isEmpty()) {
 			return;
@@ -170,10 +174,8 @@ public class TileFabricator extends TilePowered implements ISlotPickupWatcher, I
 
 	@Nullable
 	private RecipePair getRecipe() {
-		IInventoryAdapter inventory = getInternalInventory();
-		ItemStack plan = inventory.getStackInSlot(InventoryFabricator.SLOT_PLAN);
 		FluidStack liquid = moltenTank.getFluid();
-		RecipePair<IFabricatorRecipe> recipePair = FabricatorRecipeManager.findMatchingRecipe(plan, craftingInventory);
+		RecipePair<IFabricatorRecipe> recipePair = findMatchingRecipe();
 		IFabricatorRecipe recipe = recipePair.getRecipe();
 		if (liquid != null && recipe != null && !liquid.containsFluid(recipe.getLiquid())) {
 			return RecipePair.EMPTY;
@@ -181,6 +183,19 @@ public class TileFabricator extends TilePowered implements ISlotPickupWatcher, I
 		return recipePair;
 	}
 
+	/**
+	 * @return the recipe of the plan and the crafting grid, only searched again after the inventories or tank changed
+	 */
+	private RecipePair<IFabricatorRecipe> findMatchingRecipe() {
+		long changeVersion = getChangeVersion();
+		if (changeVersion != recipeChangeVersion) {
+			ItemStack plan = getStackInSlot(InventoryFabricator.SLOT_PLAN);
+			cachedRecipePair = FabricatorRecipeManager.findMatchingRecipe(plan, craftingInventory);
+			recipeChangeVersion = changeVersion;
+		}
+		return cachedRecipePair;
+	}
+
 	public ItemStack getResult(RecipePair<IFabricatorRecipe> myRecipePair) {
 		IFabricatorRecipe myRecipe = myRecipePair.getRecipe();
 		if (myRecipe == null) {
@@ -233,14 +248,31 @@ public class TileFabricator extends TilePowered implements ISlotPickupWatcher, I
 		return InventoryUtil.removeSets(inventory, 1, set, recipePair.getOreDictEntries(), null, true, false, doRemove);
 	}
 
+	@Override
+	protected long getChangeVersion() {
+		return getDirtyVersion() + inventory.getChangeVersion() + craftingInventory.getChangeVersion() + moltenTank.getChangeVersion();
+	}
+
+	@Override
+	protected boolean canSleepWhenIdle() {
+		// the heat has to cool down and the smelt has to be drained first
+		return heat <= 0 && moltenTank.isEmpty() && super.canSleepWhenIdle();
+	}
+
 	@Override
 	public boolean hasWork() {
+		RecipePair<IFabricatorRecipe> recipePair = findMatchingRecipe();
+		long changeVersion = getChangeVersion();
+		if (changeVersion == hasWorkChangeVersion) {
+			// nothing changed since the last check, so the errors are still up to date
+			return !recipePair.isEmpty();
+		}
+		hasWorkChangeVersion = changeVersion;
+
 		boolean hasRecipe = true;
 		boolean hasLiquidResources = true;
 		boolean hasResources = true;
 
-		ItemStack plan = getStackInSlot(InventoryFabricator.SLOT_PLAN);
-		RecipePair<IFabricatorRecipe> recipePair = FabricatorRecipeManager.findMatchingRecipe(plan, craftingInventory);
 		if (!recipePair.isEmpty()) {
 			IFabricatorRecipe recipe = recipePair.getRecipe();
 			NonNullList<ItemStack> crafting = InventoryUtil.getStacks(craftingInventory, InventoryGhostCrafting.SLOT_CRAFTING_1, InventoryGhostCrafting.SLOT_CRAFTING_COUNT);
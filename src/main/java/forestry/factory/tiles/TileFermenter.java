@@ -50,6 +50,7 @@ public class TileFermenter extends TilePowered implements ISidedInventory, ILiqu
 	private final FilteredTank resourceTank;
 	private final FilteredTank productTank;
 	private final TankManager tankManager;
+	private final InventoryFermenter inventory;
 
 	@Nullable
 	private IFermenterRecipe currentRecipe;
@@ -63,7 +64,8 @@ public class TileFermenter extends TilePowered implements ISidedInventory, ILiqu
 	public TileFermenter() {
 		super(2000, 8000);
 		setEnergyPerWorkCycle(4200);
-		setInternalInventory(new InventoryFermenter(this));
+		inventory = new InventoryFermenter(this);
+		setInternalInventory(inventory);
 
 		resourceTank = new FilteredTank(Constants.PROCESSOR_TANK_CAPACITY, true, false);
 		resourceTank.setFilters(FermenterRecipeManager.recipeFluidInputs);
@@ -215,6 +217,11 @@ public class TileFermenter extends TilePowered implements ISidedInventory, ILiqu
 		return (float) fuelStack.getCount() / (float) fuelStack.getMaxStackSize() > percentage;
 	}
 
+	@Override
+	protected long getChangeVersion() {
+		return getDirtyVersion() + inventory.getChangeVersion() + resourceTank.getChangeVersion() + productTank.getChangeVersion();
+	}
+
 	@Override
 	public boolean hasWork() {
 		checkRecipe();
@@ -12,6 +12,7 @@ package forestry.factory.tiles;
 
 import javax.annotation.Nullable;
 import java.io.IOException;
+import java.util.EnumSet;
 
 import forestry.api.core.IErrorLogic;
 import forestry.core.config.Constants;
@@ -24,6 +25,7 @@ import forestry.core.fluids.TankManager;
 import forestry.core.network.PacketBufferForestry;
 import forestry.core.tiles.ILiquidTankTile;
 import forestry.core.tiles.TileBase;
+import forestry.core.tiles.TileScheduler;
 import forestry.factory.gui.ContainerRaintank;
 import forestry.factory.gui.GuiRaintank;
 import forestry.factory.inventory.InventoryRaintank;
@@ -128,9 +130,20 @@ public class TileRaintank extends TileBase implements ISidedInventory, ILiquidTa
 			if (dumpingFluid || updateOnInterval(20)) {
 				dumpingFluid = dumpFluidBelow();
 			}
+		} else if (updateOnInterval(20) && resourceTank.isFull() && containerFiller.getFillingProgress() == 0 && getStackInSlot(InventoryRaintank.SLOT_RESOURCE).isEmpty()) {
+			// a full tank has nothing to do until a container is put in or a block that accepts water is placed below,
+			// the timer keeps the rain errors up to date
+			sleep(EnumSet.of(TileScheduler.WakeCondition.INVENTORY_CHANGE, TileScheduler.WakeCondition.NEIGHBOUR_CHANGE), 200);
 		}
 	}
 
+	@Override
+	protected void onWakeUp() {
+		super.onWakeUp();
+		// the block below may have been changed while the tank was asleep
+		canDumpBelow = null;
+	}
+
 	private boolean dumpFluidBelow() {
 		if (!resourceTank.isEmpty()) {
 			IFluidHandler fluidDestination = FluidUtil.getFluidHandler(world, pos.down(), EnumFacing.UP);
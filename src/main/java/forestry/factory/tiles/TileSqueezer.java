@@ -179,6 +179,11 @@ public class TileSqueezer extends TilePowered implements ISocketable, ISidedInve
 		return currentRecipe != null;
 	}
 
+	@Override
+	protected long getChangeVersion() {
+		return getDirtyVersion() + inventory.getChangeVersion() + productTank.getChangeVersion();
+	}
+
 	@Override
 	public boolean hasWork() {
 		checkRecipe();
@@ -0,0 +1,199 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.farming;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import forestry.api.farming.IFarmHousing;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+
+/**
+ * Tracks the items that spawn in the harvest areas of farms, so farms can collect their windfall without searching
+ * their whole area for items on every work cycle.
+ * <p>
+ * A farm registers its area with its first collection. The areas are indexed by the chunks they overlap, so a new item
+ * is only checked against the farms near it. Items that move into an area after they spawned are found by a full
+ * search of the area every {@link #RESCAN_INTERVAL} ticks. Areas that were not collected from for {@link #EXPIRE_TIME}
+ * ticks are forgotten, so farms that were unloaded don't stay registered.
+ * Must only be used from the server thread.
+ */
+public class WindfallIndex {
+	private static final int RESCAN_INTERVAL = 600;
+	private static final int EXPIRE_TIME = 1200;
+
+	private static final Map<World, WindfallIndex> indexes = new HashMap<>();
+
+	private final World world;
+	private final Map<IFarmHousing, Area> areas = new IdentityHashMap<>();
+	// Indexed by the hashed chunk coordinate
+	private final Map<Long, List<Area>> areasByChunk = new HashMap<>();
+
+	private WindfallIndex(World world) {
+		this.world = world;
+	}
+
+	/**
+	 * @param harvestBox the area that the farm collects from. Farms should always pass the same area, every other area
+	 *                   registers the farm again with a full search.
+	 * @return the living items in the harvest area. Collected items must be set dead, they are removed on the next call.
+	 */
+	public static Set<EntityItem> getItems(World world, IFarmHousing farmHousing, AxisAlignedBB harvestBox) {
+		WindfallIndex index = indexes.get(world);
+		if (index == null) {
+			index = new WindfallIndex(world);
+			indexes.put(world, index);
+		}
+		return index.getItems(farmHousing, harvestBox);
+	}
+
+	public static void remove(World world, IFarmHousing farmHousing) {
+		WindfallIndex index = indexes.get(world);
+		if (index != null) {
+			Area area = index.areas.get(farmHousing);
+			if (area != null) {
+				index.removeArea(area);
+			}
+		}
+	}
+
+	public static void onEntityJoinWorld(World world, Entity entity) {
+		if (!(entity instanceof EntityItem)) {
+			return;
+		}
+		WindfallIndex index = indexes.get(world);
+		if (index != null) {
+			index.addItem((EntityItem) entity);
+		}
+	}
+
+	public static void onWorldUnload(World world) {
+		indexes.remove(world);
+	}
+
+	private Set<EntityItem> getItems(IFarmHousing farmHousing, AxisAlignedBB harvestBox) {
+		long worldTime = world.getTotalWorldTime();
+		Area area = areas.get(farmHousing);
+		if (area != null && !area.box.equals(harvestBox)) {
+			removeArea(area);
+			area = null;
+		}
+		if (area == null) {
+			area = new Area(farmHousing, harvestBox);
+			addArea(area);
+		}
+
+		if (worldTime >= area.nextScan) {
+			area.items.addAll(world.getEntitiesWithinAABB(EntityItem.class, area.box));
+			area.nextScan = worldTime + RESCAN_INTERVAL;
+		}
+		area.lastUsed = worldTime;
+
+		Iterator<EntityItem> iterator = area.items.iterator();
+		while (iterator.hasNext()) {
+			EntityItem entity = iterator.next();
+			if (entity.isDead || !area.box.intersectsWith(entity.getEntityBoundingBox())) {
+				iterator.remove();
+			}
+		}
+		return area.items;
+	}
+
+	private void addItem(EntityItem entity) {
+		long chunkKey = ChunkPos.asLong(MathHelper.floor(entity.posX) >> 4, MathHelper.floor(entity.posZ) >> 4);
+		List<Area> chunkAreas = areasByChunk.get(chunkKey);
+		if (chunkAreas == null) {
+			return;
+		}
+
+		long worldTime = world.getTotalWorldTime();
+		List<Area> expired = null;
+		for (Area area : chunkAreas) {
+			if (worldTime - area.lastUsed > EXPIRE_TIME) {
+				if (expired == null) {
+					expired = new ArrayList<>();
+				}
+				expired.add(area);
+			} else if (area.box.intersectsWith(entity.getEntityBoundingBox())) {
+				area.items.add(entity);
+			}
+		}
+		if (expired != null) {
+			for (Area area : expired) {
+				removeArea(area);
+			}
+		}
+	}
+
+	private void addArea(Area area) {
+		areas.put(area.farmHousing, area);
+		for (long chunkKey : area.chunkKeys) {
+			List<Area> chunkAreas = areasByChunk.get(chunkKey);
+			if (chunkAreas == null) {
+				chunkAreas = new ArrayList<>();
+				areasByChunk.put(chunkKey, chunkAreas);
+			}
+			chunkAreas.add(area);
+		}
+	}
+
+	private void removeArea(Area area) {
+		areas.remove(area.farmHousing);
+		for (long chunkKey : area.chunkKeys) {
+			List<Area> chunkAreas = areasByChunk.get(chunkKey);
+			if (chunkAreas != null) {
+				chunkAreas.remove(area);
+				if (chunkAreas.isEmpty()) {
+					areasByChunk.remove(chunkKey);
+				}
+			}
+		}
+	}
+
+	private static class Area {
+		private final IFarmHousing farmHousing;
+		private final AxisAlignedBB box;
+		private final List<Long> chunkKeys;
+		private final Set<EntityItem> items = new LinkedHashSet<>();
+		private long nextScan = Long.MIN_VALUE;
+		private long lastUsed;
+
+		public Area(IFarmHousing farmHousing, AxisAlignedBB box) {
+			this.farmHousing = farmHousing;
+			this.box = box;
+
+			// items are indexed by the chunk of their position, so include the chunks that only touch the box with their bounds
+			int minChunkX = MathHelper.floor(box.minX - 1) >> 4;
+			int maxChunkX = MathHelper.floor(box.maxX + 1) >> 4;
+			int minChunkZ = MathHelper.floor(box.minZ - 1) >> 4;
+			int maxChunkZ = MathHelper.floor(box.maxZ + 1) >> 4;
+			List<Long> chunkKeys = new ArrayList<>();
+			for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+				for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+					chunkKeys.add(ChunkPos.asLong(chunkX, chunkZ));
+				}
+			}
+			this.chunkKeys = Collections.unmodifiableList(chunkKeys);
+		}
+	}
+}
@@ -11,13 +11,13 @@
 package forestry.farming.logic;
 
 import javax.annotation.Nullable;
-import java.util.List;
 
 import com.google.common.base.Predicate;
 import forestry.api.farming.FarmDirection;
 import forestry.api.farming.IFarmHousing;
 import forestry.api.farming.IFarmLogic;
 import forestry.core.utils.VectUtil;
+import forestry.farming.WindfallIndex;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.renderer.texture.TextureMap;
@@ -81,14 +81,17 @@ public abstract class FarmLogic implements IFarmLogic {
 	}
 
 	protected NonNullList<ItemStack> collectEntityItems(World world, IFarmHousing farmHousing, boolean toWorldHeight) {
-		AxisAlignedBB harvestBox = getHarvestBox(world, farmHousing, toWorldHeight);
+		// the tracked area always reaches to the world height, so all logics of a farm share it
+		AxisAlignedBB trackedBox = getHarvestBox(world, farmHousing, true);
+		AxisAlignedBB harvestBox = toWorldHeight ? trackedBox : getHarvestBox(world, farmHousing, false);
 
-		List<EntityItem> entityItems = world.getEntitiesWithinAABB(EntityItem.class, harvestBox, entitySelectorFarm);
 		NonNullList<ItemStack> stacks = NonNullList.create();
-		for (EntityItem entity : entityItems) {
-			ItemStack contained = entity.getEntityItem();
-			stacks.add(contained.copy());
-			entity.setDead();
+		for (EntityItem entity : WindfallIndex.getItems(world, farmHousing, trackedBox)) {
+			if (harvestBox.intersectsWith(entity.getEntityBoundingBox()) && entitySelectorFarm.apply(entity)) {
+				ItemStack contained = entity.getEntityItem();
+				stacks.add(contained.copy());
+				entity.setDead();
+			}
 		}
 		return stacks;
 	}
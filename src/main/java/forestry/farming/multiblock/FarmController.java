@@ -64,6 +64,7 @@ import forestry.core.utils.TopDownBlockPosComparator;
 import forestry.core.utils.Translator;
 import forestry.farming.FarmHelper;
 import forestry.farming.FarmTarget;
+import forestry.farming.WindfallIndex;
 import forestry.farming.gui.IFarmLedgerDelegate;
 import forestry.farming.logic.FarmLogicArboreal;
 import forestry.farming.tiles.TileFarmGearbox;
@@ -226,6 +227,7 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 	protected void onMachineDisassembled() {
 		super.onMachineDisassembled();
 		targets.clear();
+		WindfallIndex.remove(world, this);
 	}
 
 	@Override
@@ -57,6 +57,7 @@ import forestry.core.tiles.ILiquidTankTile;
 import forestry.core.tiles.TileUtil;
 import forestry.core.utils.CamouflageUtil;
 import forestry.core.utils.ItemStackUtil;
+import forestry.core.utils.Log;
 import forestry.core.utils.NetworkUtil;
 import forestry.core.utils.Translator;
 import forestry.energy.EnergyManager;
@@ -73,10 +74,17 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.fluids.FluidRegistry;
+import net.minecraftforge.fml.common.ObfuscationReflectionHelper;
+import net.minecraftforge.fml.common.eventhandler.EventBus;
 
 public class GreenhouseController extends RectangularMultiblockControllerBase implements IGreenhouseControllerInternal, ILiquidTankTile {
+	@Nullable
+	private static Integer eventBusId;
 
 	private final Set<IInternalBlock> internalBlocks = new HashSet<>();
+	/* The interior of the last check, if it was found without posting events. */
+	@Nullable
+	private GreenhouseInterior interior;
 	private final Set<IGreenhouseComponent.Listener> listenerComponents = new HashSet<>();
 	private final Set<IGreenhouseComponent.Active> activeComponents = new HashSet<>();
 	private final Set<IGreenhouseComponent.Climatiser> climatiserComponents = new HashSet<>();
@@ -362,6 +370,7 @@ public class GreenhouseController extends RectangularMultiblockControllerBase im
 		super.onMachineDisassembled();
 
 		internalBlocks.clear();
+		interior = null;
 		
 		ForestryAPI.climateManager.removeRegion(region);
 
@@ -407,6 +416,9 @@ public class GreenhouseController extends RectangularMultiblockControllerBase im
 	protected void onAssimilate(IMultiblockControllerInternal assimilated) {
 		IGreenhouseControllerInternal internal = (IGreenhouseControllerInternal) assimilated;
 		addNewPositions(internal.getRegion().getPositions());
+		if (isAssembled()) {
+			ForestryAPI.climateManager.addRegion(region);
+		}
 	}
 
 	@Override
@@ -553,10 +565,17 @@ public class GreenhouseController extends RectangularMultiblockControllerBase im
 				}
 			}
 		}
-		internalBlocks.clear();
-
+		GreenhouseInterior lastInterior = interior;
+		interior = null;
 		if (isNextRoof) {
-			checkInternalBlocks();
+			if (hasInternalBlockListeners()) {
+				internalBlocks.clear();
+				checkInternalBlocks();
+			} else {
+				fillInterior(lastInterior, minimumCoord, maximumCoord);
+			}
+		} else {
+			internalBlocks.clear();
 		}
 
 		if (internalBlocks.isEmpty()) {
@@ -581,6 +600,46 @@ public class GreenhouseController extends RectangularMultiblockControllerBase im
 	protected void updateClient(int tickCount) {
 	}
 
+	/**
+	 * Finds the internal blocks without posting events. Only the blocks that changed since the last check are checked
+	 * again if the volume of the greenhouse is the same.
+	 */
+	private void fillInterior(@Nullable GreenhouseInterior lastInterior, BlockPos minimumCoord, BlockPos maximumCoord) throws MultiblockValidationException {
+		if (lastInterior != null && lastInterior.hasVolume(minimumCoord, maximumCoord) && lastInterior.update(getChangedPositions(), internalBlocks)) {
+			interior = lastInterior;
+			return;
+		}
+
+		internalBlocks.clear();
+		GreenhouseInterior newInterior = new GreenhouseInterior(world, this, minimumCoord, maximumCoord);
+		newInterior.fill(minimumCoord.add(1, 1, 1), internalBlocks);
+		interior = newInterior;
+	}
+
+	/**
+	 * @return true if something listens to the events of the internal blocks, so they have to be posted for every block
+	 */
+	private static boolean hasInternalBlockListeners() {
+		int busId = getEventBusId();
+		if (busId < 0) {
+			return true;
+		}
+		return new CreateInternalBlockEvent(null, null).getListenerList().getListeners(busId).length > 0 ||
+				new CheckInternalBlockFaceEvent(null, null, null).getListenerList().getListeners(busId).length > 0;
+	}
+
+	private static int getEventBusId() {
+		if (eventBusId == null) {
+			try {
+				eventBusId = ObfuscationReflectionHelper.getPrivateValue(EventBus.class, MinecraftForge.EVENT_BUS, "busID");
+			} catch (RuntimeException e) {
+				Log.error("Failed to find the id of the event bus, the greenhouse events are posted for every internal block.", e);
+				eventBusId = -1;
+			}
+		}
+		return eventBusId;
+	}
+
 	/**
 	 * Check all internal blocks.
 	 */
@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.greenhouse.multiblock;
+
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Set;
+
+import forestry.api.greenhouse.IInternalBlock;
+import forestry.api.multiblock.IGreenhouseComponent;
+import forestry.api.multiblock.IGreenhouseController;
+import forestry.core.multiblock.MultiblockValidationException;
+import forestry.core.tiles.TileUtil;
+import forestry.core.utils.Translator;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+/**
+ * The interior of a greenhouse, filled from the first interior block up to the greenhouse blocks around it.
+ * Finds the same blocks as the check of the {@link GreenhouseController} without posting the events of the internal blocks,
+ * so it must only be used if nothing listens to them.
+ * <p>
+ * The interior and the known greenhouse blocks are marked in bitsets over the volume of the greenhouse, so every block
+ * of the volume is looked up at most once. As long as the volume stays the same, the fill is continued from the blocks
+ * that changed next to the interior instead of filling the whole interior again.
+ */
+class GreenhouseInterior {
+	private final World world;
+	private final IGreenhouseController controller;
+	private final BlockPos minimumCoord;
+	private final BlockPos maximumCoord;
+	private final int sizeY;
+	private final int sizeZ;
+	private final BitSet interior = new BitSet();
+	private final BitSet walls = new BitSet();
+
+	public GreenhouseInterior(World world, IGreenhouseController controller, BlockPos minimumCoord, BlockPos maximumCoord) {
+		this.world = world;
+		this.controller = controller;
+		this.minimumCoord = minimumCoord;
+		this.maximumCoord = maximumCoord;
+		this.sizeY = maximumCoord.getY() - minimumCoord.getY() + 1;
+		this.sizeZ = maximumCoord.getZ() - minimumCoord.getZ() + 1;
+	}
+
+	public boolean hasVolume(BlockPos minimumCoord, BlockPos maximumCoord) {
+		return this.minimumCoord.equals(minimumCoord) && this.maximumCoord.equals(maximumCoord);
+	}
+
+	/**
+	 * Fills the interior from the start block and adds all filled blocks to the internal blocks.
+	 */
+	public void fill(BlockPos start, Set<IInternalBlock> internalBlocks) throws MultiblockValidationException {
+		ArrayDeque<InternalBlock> blocksToCheck = new ArrayDeque<>();
+		if (isInVolume(start)) {
+			interior.set(getIndex(start));
+		}
+		blocksToCheck.add(new InternalBlock(start));
+		fill(blocksToCheck, internalBlocks);
+	}
+
+	/**
+	 * Continues the fill from the blocks that changed since the last fill.
+	 *
+	 * @return false if a block of the interior changed, so the interior has to be filled again
+	 */
+	public boolean update(Collection<BlockPos> changedPositions, Set<IInternalBlock> internalBlocks) throws MultiblockValidationException {
+		for (BlockPos pos : changedPositions) {
+			if (!isInVolume(pos) || interior.get(getIndex(pos))) {
+				return false;
+			}
+		}
+
+		ArrayDeque<InternalBlock> blocksToCheck = new ArrayDeque<>();
+		for (BlockPos pos : changedPositions) {
+			int index = getIndex(pos);
+			walls.clear(index);
+			for (EnumFacing facing : EnumFacing.VALUES) {
+				BlockPos posFacing = pos.offset(facing);
+				if (isInVolume(posFacing) && interior.get(getIndex(posFacing))) {
+					// the block touches the interior, check it from there
+					if (isInterior(posFacing, pos, index)) {
+						blocksToCheck.add(new InternalBlock(pos, facing, new InternalBlockCheck(posFacing)));
+					}
+					break;
+				}
+			}
+		}
+		fill(blocksToCheck, internalBlocks);
+		return true;
+	}
+
+	private void fill(ArrayDeque<InternalBlock> blocksToCheck, Set<IInternalBlock> internalBlocks) throws MultiblockValidationException {
+		while (!blocksToCheck.isEmpty()) {
+			InternalBlock blockToCheck = blocksToCheck.poll();
+			internalBlocks.add(blockToCheck);
+			BlockPos posRoot = blockToCheck.getPos();
+
+			for (EnumFacing face : EnumFacing.VALUES) {
+				BlockPos posFacing = posRoot.offset(face);
+				if (!isInVolume(posFacing)) {
+					throw new MultiblockValidationException(Translator.translateToLocalFormatted("for.multiblock.greenhouse.error.space.closed"), posRoot);
+				}
+
+				int index = getIndex(posFacing);
+				if (interior.get(index) || walls.get(index)) {
+					continue;
+				}
+				if (isInterior(posRoot, posFacing, index)) {
+					blocksToCheck.add(new InternalBlock(posFacing, face.getOpposite(), blockToCheck));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Looks up the block next to an internal block and marks it as interior or as greenhouse block.
+	 *
+	 * @return true if the block belongs to the interior
+	 */
+	private boolean isInterior(BlockPos posRoot, BlockPos posFacing, int index) throws MultiblockValidationException {
+		TileEntity tileFace = TileUtil.getTile(world, posFacing);
+		if (tileFace instanceof IGreenhouseComponent) {
+			if (((IGreenhouseComponent) tileFace).getMultiblockLogic().getController() != controller) {
+				throw new MultiblockValidationException(Translator.translateToLocalFormatted("for.multiblock.error.not.connected.part"), posRoot);
+			}
+			walls.set(index);
+			return false;
+		}
+		interior.set(index);
+		return true;
+	}
+
+	private boolean isInVolume(BlockPos pos) {
+		return pos.getX() >= minimumCoord.getX() && pos.getX() <= maximumCoord.getX()
+				&& pos.getY() >= minimumCoord.getY() && pos.getY() <= maximumCoord.getY()
+				&& pos.getZ() >= minimumCoord.getZ() && pos.getZ() <= maximumCoord.getZ();
+	}
+
+	private int getIndex(BlockPos pos) {
+		int x = pos.getX() - minimumCoord.getX();
+		int y = pos.getY() - minimumCoord.getY();
+		int z = pos.getZ() - minimumCoord.getZ();
+		return (x * sizeY + y) * sizeZ + z;
+	}
+}
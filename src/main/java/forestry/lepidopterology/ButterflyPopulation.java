@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.lepidopterology;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import forestry.lepidopterology.entities.EntityButterfly;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.ClassInheritanceMultiMap;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+
+/**
+ * Keeps track of the butterflies in every world, so the spawn limits don't have to count all loaded entities of the
+ * world with {@link World#countEntities(Class)}.
+ * <p>
+ * Butterflies are added when they join the world and removed when they are set dead or their chunk is unloaded.
+ */
+public class ButterflyPopulation {
+	private static final Map<World, Set<EntityButterfly>> butterflies = new HashMap<>();
+
+	public static int getCount(World world) {
+		Set<EntityButterfly> worldButterflies = butterflies.get(world);
+		return worldButterflies == null ? 0 : worldButterflies.size();
+	}
+
+	public static void onEntityJoinWorld(World world, Entity entity) {
+		if (entity instanceof EntityButterfly) {
+			Set<EntityButterfly> worldButterflies = butterflies.get(world);
+			if (worldButterflies == null) {
+				worldButterflies = new HashSet<>();
+				butterflies.put(world, worldButterflies);
+			}
+			worldButterflies.add((EntityButterfly) entity);
+		}
+	}
+
+	public static void onButterflyRemoved(EntityButterfly butterfly) {
+		Set<EntityButterfly> worldButterflies = butterflies.get(butterfly.world);
+		if (worldButterflies != null) {
+			worldButterflies.remove(butterfly);
+		}
+	}
+
+	public static void onChunkUnload(World world, Chunk chunk) {
+		Set<EntityButterfly> worldButterflies = butterflies.get(world);
+		if (worldButterflies == null || worldButterflies.isEmpty()) {
+			return;
+		}
+		for (ClassInheritanceMultiMap<Entity> entities : chunk.getEntityLists()) {
+			for (EntityButterfly butterfly : entities.getByClass(EntityButterfly.class)) {
+				worldButterflies.remove(butterfly);
+			}
+		}
+	}
+
+	public static void onWorldUnload(World world) {
+		butterflies.remove(world);
+	}
+}
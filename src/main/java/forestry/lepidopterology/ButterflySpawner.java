@@ -16,7 +16,6 @@ import forestry.api.arboriculture.ILeafTickHandler;
 import forestry.api.arboriculture.ITree;
 import forestry.api.lepidopterology.ButterflyManager;
 import forestry.api.lepidopterology.IButterfly;
-import forestry.lepidopterology.entities.EntityButterfly;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 
@@ -41,7 +40,7 @@ public class ButterflySpawner implements ILeafTickHandler {
 			return false;
 		}
 
-		if (world.countEntities(EntityButterfly.class) > PluginLepidopterology.spawnConstraint) {
+		if (ButterflyPopulation.getCount(world) > PluginLepidopterology.spawnConstraint) {
 			return false;
 		}
 
@@ -3,7 +3,6 @@ package forestry.lepidopterology;
 import forestry.api.lepidopterology.ButterflyManager;
 import forestry.api.lepidopterology.IButterfly;
 import forestry.core.utils.Log;
-import forestry.lepidopterology.entities.EntityButterfly;
 import net.minecraft.entity.EntityLiving;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
@@ -17,7 +16,7 @@ public class ButterflyUtils {
 	}
 	
 	public static boolean spawnButterfly(IButterfly butterfly, World world, BlockPos pos){
-		if (world.countEntities(EntityButterfly.class) > PluginLepidopterology.spawnConstraint) {
+		if (ButterflyPopulation.getCount(world) > PluginLepidopterology.spawnConstraint) {
 			return false;
 		}
 
@@ -32,7 +31,7 @@ public class ButterflyUtils {
 	}
 	
 	public static boolean spawnButterflyWithoutCheck(IButterfly butterfly, World world, BlockPos pos){
-		if (world.countEntities(EntityButterfly.class) > PluginLepidopterology.spawnConstraint) {
+		if (ButterflyPopulation.getCount(world) > PluginLepidopterology.spawnConstraint) {
 			return false;
 		}
 
@@ -67,7 +67,11 @@ import net.minecraft.world.chunk.IChunkGenerator;
 import net.minecraftforge.client.event.ModelBakeEvent;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.config.Property;
+import net.minecraftforge.event.entity.EntityJoinWorldEvent;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.fml.common.SidedProxy;
+import net.minecraftforge.fml.common.eventhandler.EventPriority;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.registry.GameRegistry;
 import net.minecraftforge.fml.relauncher.Side;
@@ -332,6 +336,21 @@ public class PluginLepidopterology extends BlankForestryPlugin {
 		return secondSerumChance;
 	}
 
+	@SubscribeEvent(priority = EventPriority.LOWEST)
+	public void onEntityJoinWorld(EntityJoinWorldEvent event) {
+		ButterflyPopulation.onEntityJoinWorld(event.getWorld(), event.getEntity());
+	}
+
+	@SubscribeEvent
+	public void onChunkUnload(ChunkEvent.Unload event) {
+		ButterflyPopulation.onChunkUnload(event.getWorld(), event.getChunk());
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event) {
+		ButterflyPopulation.onWorldUnload(event.getWorld());
+	}
+
 	@SubscribeEvent
 	@SideOnly(Side.CLIENT)
 	public void onModelBake(ModelBakeEvent event) {
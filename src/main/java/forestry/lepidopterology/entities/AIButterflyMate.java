@@ -15,6 +15,7 @@ import java.util.List;
 
 import forestry.api.lepidopterology.IButterflyNursery;
 import forestry.core.utils.GeneticsUtil;
+import forestry.lepidopterology.ButterflyPopulation;
 import forestry.lepidopterology.PluginLepidopterology;
 
 public class AIButterflyMate extends AIButterflyInteract {
@@ -38,7 +39,7 @@ public class AIButterflyMate extends AIButterflyInteract {
 			return false;
 		}
 
-		if (entity.world.countEntities(EntityButterfly.class) > PluginLepidopterology.spawnConstraint) {
+		if (ButterflyPopulation.getCount(entity.world) > PluginLepidopterology.spawnConstraint) {
 			return false;
 		}
 
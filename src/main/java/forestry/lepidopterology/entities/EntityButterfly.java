@@ -28,6 +28,7 @@ import forestry.api.lepidopterology.IButterflyRoot;
 import forestry.api.lepidopterology.IEntityButterfly;
 import forestry.api.lepidopterology.ILepidopteristTracker;
 import forestry.core.utils.ItemStackUtil;
+import forestry.lepidopterology.ButterflyPopulation;
 import forestry.lepidopterology.PluginLepidopterology;
 import forestry.lepidopterology.genetics.Butterfly;
 import net.minecraft.block.Block;
@@ -448,6 +449,14 @@ public class EntityButterfly extends EntityCreature implements IEntityButterfly
 		}
 	}
 
+	@Override
+	public void setDead() {
+		if (!isDead) {
+			ButterflyPopulation.onButterflyRemoved(this);
+		}
+		super.setDead();
+	}
+
 	/* UPDATING */
 	@Override
 	public void onUpdate() {
@@ -29,6 +29,7 @@ import forestry.api.genetics.IAlleleTolerance;
 import forestry.api.genetics.IChromosome;
 import forestry.api.genetics.IGenome;
 import forestry.api.genetics.IIndividual;
+import forestry.api.genetics.IMutation;
 import forestry.api.lepidopterology.ButterflyManager;
 import forestry.api.lepidopterology.EnumButterflyChromosome;
 import forestry.api.lepidopterology.EnumFlutterType;
@@ -290,7 +291,9 @@ public class Butterfly extends IndividualLiving implements IButterfly {
 			genome1 = genomeOne;
 		}
 
-		for (IButterflyMutation mutation : ButterflyManager.butterflyRoot.getMutations(true)) {
+		List<IMutation> combinations = ButterflyManager.butterflyRoot.getCombinations((IAlleleButterflySpecies) allele0, (IAlleleButterflySpecies) allele1, true);
+		for (IMutation combination : combinations) {
+			IButterflyMutation mutation = (IButterflyMutation) combination;
 			float chance = mutation.getChance(world, nursery, allele0, allele1, genome0, genome1);
 			if (chance > rand.nextFloat() * 100) {
 				return ButterflyManager.butterflyRoot.templateAsChromosomes(mutation.getTemplate());
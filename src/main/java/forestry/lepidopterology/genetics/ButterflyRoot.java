@@ -321,12 +321,15 @@ public class ButterflyRoot extends SpeciesRoot implements IButterflyRoot {
 		}
 
 		butterflyMutations.add((IButterflyMutation) mutation);
+		invalidateMutationIndex();
 	}
 
 	@Override
 	public List<IButterflyMutation> getMutations(boolean shuffle) {
 		if (shuffle) {
-			Collections.shuffle(butterflyMutations);
+			List<IButterflyMutation> shuffled = new ArrayList<>(butterflyMutations);
+			Collections.shuffle(shuffled);
+			return shuffled;
 		}
 		return butterflyMutations;
 	}
@@ -334,19 +337,7 @@ public class ButterflyRoot extends SpeciesRoot implements IButterflyRoot {
 	/* BREEDING TRACKER */
 	@Override
 	public ILepidopteristTracker getBreedingTracker(World world, @Nullable GameProfile player) {
-		String filename = "LepidopteristTracker." + (player == null ? "common" : player.getId());
-		LepidopteristTracker tracker = (LepidopteristTracker) world.loadData(LepidopteristTracker.class, filename);
-
-		// Create a tracker if there is none yet.
-		if (tracker == null) {
-			tracker = new LepidopteristTracker(filename);
-			world.setData(filename, tracker);
-		}
-
-		tracker.setUsername(player);
-		tracker.setWorld(world);
-
-		return tracker;
+		return getBreedingTracker(world, player, "LepidopteristTracker.", LepidopteristTracker.class, LepidopteristTracker::new);
 	}
 
 	@Override
@@ -58,6 +58,7 @@ import forestry.core.utils.EntityUtil;
 import forestry.core.utils.GeneticsUtil;
 import forestry.core.utils.NetworkUtil;
 import forestry.core.utils.Translator;
+import forestry.lepidopterology.ButterflyPopulation;
 import forestry.lepidopterology.PluginLepidopterology;
 import forestry.lepidopterology.entities.EntityButterfly;
 import forestry.lepidopterology.genetics.ButterflyGenome;
@@ -139,7 +140,7 @@ public class ItemButterflyGE extends ItemGE implements ISpriteRegister, IColored
 			return false;
 		}
 
-		if (entityItem.world.countEntities(EntityButterfly.class) > PluginLepidopterology.entityConstraint) {
+		if (ButterflyPopulation.getCount(entityItem.world) > PluginLepidopterology.entityConstraint) {
 			return false;
 		}
 
@@ -1,32 +1,43 @@
 package forestry.storage;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 import forestry.api.storage.IBackpackFilterConfigurable;
-import forestry.core.utils.ItemStackUtil;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.oredict.OreDictionary;
 
+/**
+ * The rules of the filter are kept by item and meta, so testing an item stack does not have to build any strings.
+ * The ore dictionary check of every tested item and meta is cached until the rules of the filter change.
+ */
 public class BackpackFilter implements IBackpackFilterConfigurable {
-	private final Set<String> acceptedItemStacks = new HashSet<>();
-	private final Set<String> rejectedItemStacks = new HashSet<>();
-	private final Set<Integer> validOreIds = new HashSet<>();
+	private final Map<Item, ItemRules> itemRules = new IdentityHashMap<>();
+	private final BitSet validOreIds = new BitSet();
 
 	@Override
 	public void acceptItem(ItemStack validItem) {
-		String itemStackString = ItemStackUtil.getStringForItemStack(validItem);
-		if (itemStackString != null) {
-			this.acceptedItemStacks.add(itemStackString);
+		if (validItem.isEmpty()) {
+			return;
 		}
+		ItemRules rules = getRules(validItem.getItem());
+		int meta = validItem.getItemDamage();
+		if (meta == OreDictionary.WILDCARD_VALUE) {
+			rules.acceptAll = true;
+		} else {
+			rules.acceptedMetas.set(meta);
+		}
+		clearOreResults();
 	}
 
 	@Override
 	public void acceptOreDictName(String oreDictName) {
 		if (OreDictionary.doesOreNameExist(oreDictName)) {
 			int oreId = OreDictionary.getOreID(oreDictName);
-			this.validOreIds.add(oreId);
+			this.validOreIds.set(oreId);
+			clearOreResults();
 		}
 	}
 
@@ -34,22 +45,29 @@ public class BackpackFilter implements IBackpackFilterConfigurable {
 	public void rejectOreDictName(String oreDictName) {
 		if (OreDictionary.doesOreNameExist(oreDictName)) {
 			int oreId = OreDictionary.getOreID(oreDictName);
-			this.validOreIds.remove(oreId);
+			this.validOreIds.clear(oreId);
+			clearOreResults();
 		}
 	}
 
 	@Override
 	public void rejectItem(ItemStack invalidItem) {
-		String itemStackString = ItemStackUtil.getStringForItemStack(invalidItem);
-		if (itemStackString != null) {
-			this.rejectedItemStacks.add(itemStackString);
+		if (invalidItem.isEmpty()) {
+			return;
+		}
+		ItemRules rules = getRules(invalidItem.getItem());
+		int meta = invalidItem.getItemDamage();
+		if (meta == OreDictionary.WILDCARD_VALUE) {
+			rules.rejectAll = true;
+		} else {
+			rules.rejectedMetas.set(meta);
 		}
+		clearOreResults();
 	}
 
 	@Override
 	public void clear() {
-		acceptedItemStacks.clear();
-		rejectedItemStacks.clear();
+		itemRules.clear();
 		validOreIds.clear();
 	}
 
@@ -60,45 +78,77 @@ public class BackpackFilter implements IBackpackFilterConfigurable {
 		}
 
 		Item item = itemStack.getItem();
-		String itemStackStringWild = ItemStackUtil.getItemNameFromRegistryAsString(item);
-		if (rejectedItemStacks.contains(itemStackStringWild)) {
-			return false;
-		}
-		if (acceptedItemStacks.contains(itemStackStringWild)) {
-			return true;
+		ItemRules rules = itemRules.get(item);
+		if (rules != null) {
+			if (rules.rejectAll) {
+				return false;
+			}
+			if (rules.acceptAll) {
+				return true;
+			}
 		}
 
 		int meta = itemStack.getMetadata();
-		if (meta != OreDictionary.WILDCARD_VALUE) {
-			String itemStackString = itemStackStringWild + ':' + meta;
-			if (rejectedItemStacks.contains(itemStackString)) {
+		if (meta == OreDictionary.WILDCARD_VALUE || meta < 0) {
+			return isValidOre(itemStack);
+		}
+
+		if (rules != null) {
+			if (rules.rejectedMetas.get(meta)) {
 				return false;
 			}
-			if (acceptedItemStacks.contains(itemStackString)) {
+			if (rules.acceptedMetas.get(meta)) {
 				return true;
 			}
 		}
 
-		int[] oreIds = OreDictionary.getOreIDs(itemStack);
-		for (int oreId : oreIds) {
-			if (validOreIds.contains(oreId)) {
-				acceptedItemStacks.add(itemStackStringWild);
-				return true;
+		if (validOreIds.isEmpty()) {
+			return false;
+		}
+		if (rules == null) {
+			rules = getRules(item);
+		}
+		if (!rules.oreCheckedMetas.get(meta)) {
+			rules.oreCheckedMetas.set(meta);
+			if (isValidOre(itemStack)) {
+				rules.oreAcceptedMetas.set(meta);
 			}
 		}
+		return rules.oreAcceptedMetas.get(meta);
+	}
 
+	private boolean isValidOre(ItemStack itemStack) {
+		for (int oreId : OreDictionary.getOreIDs(itemStack)) {
+			if (validOreIds.get(oreId)) {
+				return true;
+			}
+		}
 		return false;
 	}
 
-	public Set<Integer> getValidOreIds() {
-		return validOreIds;
+	private ItemRules getRules(Item item) {
+		ItemRules rules = itemRules.get(item);
+		if (rules == null) {
+			rules = new ItemRules();
+			itemRules.put(item, rules);
+		}
+		return rules;
 	}
 
-	public Set<String> getAcceptedItemStacks() {
-		return acceptedItemStacks;
+	private void clearOreResults() {
+		for (ItemRules rules : itemRules.values()) {
+			rules.oreCheckedMetas.clear();
+			rules.oreAcceptedMetas.clear();
+		}
 	}
 
-	public Set<String> getRejectedItemStacks() {
-		return rejectedItemStacks;
+	private static class ItemRules {
+		private boolean acceptAll;
+		private boolean rejectAll;
+		private final BitSet acceptedMetas = new BitSet();
+		private final BitSet rejectedMetas = new BitSet();
+		// cached ore dictionary checks of the metas that have no rule
+		private final BitSet oreCheckedMetas = new BitSet();
+		private final BitSet oreAcceptedMetas = new BitSet();
 	}
 }
@@ -14,6 +14,8 @@ import forestry.api.storage.IBackpackDefinition;
 import forestry.core.IPickupHandler;
 import forestry.storage.gui.ContainerBackpack;
 import forestry.storage.gui.ContainerNaturalistBackpack;
+import forestry.storage.inventory.BackpackInventoryCache;
+import forestry.storage.inventory.ItemInventoryBackpack;
 import forestry.storage.items.ItemBackpack;
 import net.minecraft.entity.item.EntityItem;
 import net.minecraft.entity.player.EntityPlayer;
@@ -48,8 +50,9 @@ public class PickupHandlerStorage implements IPickupHandler {
 
 			ItemBackpack backpack = (ItemBackpack) pack.getItem();
 			IBackpackDefinition backpackDefinition = backpack.getDefinition();
-			if (backpackDefinition.getFilter().test(itemstack)) {
-				ItemBackpack.tryStowing(player, pack, itemstack);
+			if (backpackDefinition.getFilter().test(itemstack) && ItemBackpack.getMode(pack) != BackpackMode.LOCKED) {
+				ItemInventoryBackpack inventory = BackpackInventoryCache.getInventory(player, pack);
+				ItemBackpack.tryStowing(player, pack, inventory, itemstack);
 			}
 		}
 
@@ -52,6 +52,7 @@ import forestry.lepidopterology.blocks.BlockRegistryLepidopterology;
 import forestry.plugins.BlankForestryPlugin;
 import forestry.plugins.ForestryPlugin;
 import forestry.plugins.ForestryPluginUids;
+import forestry.storage.inventory.BackpackInventoryCache;
 import forestry.storage.items.ItemRegistryStorage;
 import forestry.storage.proxy.ProxyStorage;
 import net.minecraft.init.Blocks;
@@ -67,6 +68,7 @@ import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fml.common.SidedProxy;
 import net.minecraftforge.fml.common.event.FMLInterModComms.IMCMessage;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import net.minecraftforge.oredict.OreDictionary;
@@ -84,6 +86,8 @@ public class PluginStorage extends BlankForestryPlugin {
 	@Nullable
 	private static ItemRegistryStorage items;
 
+	private final ResupplyHandler resupplyHandler = new ResupplyHandler();
+
 	private final Multimap<String, String> backpackAcceptedOreDictRegexpDefaults = HashMultimap.create();
 	private final Multimap<String, String> backpackRejectedOreDictRegexpDefaults = HashMultimap.create();
 	private final Multimap<String, String> backpackAcceptedItemDefaults = HashMultimap.create();
@@ -155,6 +159,7 @@ public class PluginStorage extends BlankForestryPlugin {
 	public void preInit() {
 		registerFenceAndFenceGatesToOreDict();
 		MinecraftForge.EVENT_BUS.register(this);
+		MinecraftForge.EVENT_BUS.register(resupplyHandler);
 	}
 
 	@Override
@@ -579,7 +584,7 @@ public class PluginStorage extends BlankForestryPlugin {
 
 	@Override
 	public IResupplyHandler getResupplyHandler() {
-		return new ResupplyHandler();
+		return resupplyHandler;
 	}
 
 	@Override
@@ -647,6 +652,20 @@ public class PluginStorage extends BlankForestryPlugin {
 				'T', backpackT1);
 	}
 
+	@SubscribeEvent
+	public void onPlayerTick(TickEvent.PlayerTickEvent event) {
+		if (event.phase == TickEvent.Phase.END && event.side == Side.SERVER) {
+			BackpackInventoryCache.writeChanges(event.player);
+		}
+	}
+
+	@SubscribeEvent
+	public void onServerTick(TickEvent.ServerTickEvent event) {
+		if (event.phase == TickEvent.Phase.END) {
+			BackpackInventoryCache.writeAllChanges();
+		}
+	}
+
 	@SubscribeEvent
 	@SideOnly(Side.CLIENT)
 	public void onBakeModel(ModelBakeEvent event) {
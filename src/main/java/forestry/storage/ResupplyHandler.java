@@ -10,88 +10,229 @@
  ******************************************************************************/
 package forestry.storage;
 
-import java.util.LinkedList;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.InventoryPlayer;
 import net.minecraft.inventory.ContainerPlayer;
 import net.minecraft.item.ItemStack;
-import net.minecraft.util.NonNullList;
 
 import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.entity.item.ItemTossEvent;
+import net.minecraftforge.event.entity.living.LivingEntityUseItemEvent;
+import net.minecraftforge.event.entity.player.ArrowLooseEvent;
+import net.minecraftforge.event.entity.player.EntityItemPickupEvent;
+import net.minecraftforge.event.entity.player.PlayerContainerEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent.Clone;
+import net.minecraftforge.event.entity.player.PlayerInteractEvent;
 
 import net.minecraftforge.fml.common.eventhandler.Event;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.PlayerEvent;
 
 import forestry.api.storage.BackpackResupplyEvent;
 import forestry.core.IResupplyHandler;
-import forestry.core.inventory.ItemInventory;
+import forestry.core.config.Config;
 import forestry.storage.inventory.ItemInventoryBackpack;
 import forestry.storage.items.ItemBackpack;
 
+/**
+ * Tops off the stacks in the inventory of a player from the backpacks in resupply mode.
+ * <p>
+ * Only players that did something that can use up items since their last resupply are resupplied, everyone else is
+ * skipped without looking at their backpacks. A player stays due as long as items are moved, one per backpack and tick.
+ * The decoded contents of the backpacks are kept between the resupplies until the backpack is opened or its contents
+ * are replaced.
+ */
 public class ResupplyHandler implements IResupplyHandler {
-
-	private static NonNullList<ItemStack> getBackpacks(InventoryPlayer playerInventory) {
-		NonNullList<ItemStack> backpacks = NonNullList.create();
-		for (ItemStack itemStack : playerInventory.mainInventory) {
-			if (itemStack.getItem() instanceof ItemBackpack) {
-				backpacks.add(itemStack);
-			}
-		}
-		return backpacks;
-	}
+	private final Set<EntityPlayer> duePlayers = new HashSet<>();
+	private final Map<EntityPlayer, Map<ItemStack, ItemInventoryBackpack>> backpackInventories = new HashMap<>();
 
 	@Override
 	public void resupply(EntityPlayer player) {
+		if (!duePlayers.contains(player)) {
+			return;
+		}
 
 		// Do not attempt resupplying if this backpack is already opened.
 		if (!(player.openContainer instanceof ContainerPlayer)) {
 			return;
 		}
 
-		for (ItemStack backpack : getBackpacks(player.inventory)) {
-			if (ItemBackpack.getMode(backpack) == BackpackMode.RESUPPLY) {
-				// Load their inventory
+		List<ItemStack> stacksToTopOff = getStacksToTopOff(player.inventory);
+		if (stacksToTopOff.isEmpty()) {
+			duePlayers.remove(player);
+			return;
+		}
+
+		Map<ItemStack, ItemInventoryBackpack> lastInventories = backpackInventories.get(player);
+		Map<ItemStack, ItemInventoryBackpack> inventories = new IdentityHashMap<>();
+		boolean resupplied = false;
+		for (ItemStack backpack : player.inventory.mainInventory) {
+			if (!(backpack.getItem() instanceof ItemBackpack) || ItemBackpack.getMode(backpack) != BackpackMode.RESUPPLY) {
+				continue;
+			}
+
+			// Load their inventory
+			ItemInventoryBackpack backpackInventory = lastInventories == null ? null : lastInventories.get(backpack);
+			if (backpackInventory == null || !backpackInventory.isInSyncWithParent()) {
 				ItemBackpack backpackItem = (ItemBackpack) backpack.getItem();
-				ItemInventory backpackInventory = new ItemInventoryBackpack(player, backpackItem.getBackpackSize(), backpack);
-
-				Event event = new BackpackResupplyEvent(player, backpackItem.getDefinition(), backpackInventory);
-				if (!MinecraftForge.EVENT_BUS.post(event)) {
-					for (int i = 0; i < backpackInventory.getSizeInventory(); i++) {
-						ItemStack itemStack = backpackInventory.getStackInSlot(i);
-						if (topOffPlayerInventory(player, itemStack)) {
-							backpackInventory.setInventorySlotContents(i, itemStack);
-							break;
-						}
-					}
-				}
+				backpackInventory = new ItemInventoryBackpack(player, backpackItem.getBackpackSize(), backpack);
 			}
+			inventories.put(backpack, backpackInventory);
+
+			resupplied |= resupply(player, backpack, backpackInventory, stacksToTopOff);
+		}
+		backpackInventories.put(player, inventories);
+
+		if (!resupplied) {
+			duePlayers.remove(player);
 		}
 	}
 
+	private static boolean resupply(EntityPlayer player, ItemStack backpack, ItemInventoryBackpack backpackInventory, List<ItemStack> stacksToTopOff) {
+		for (int i = 0; i < backpackInventory.getSizeInventory(); i++) {
+			ItemStack itemStack = backpackInventory.getStackInSlot(i);
+			ItemStack inventoryStack = getStackToTopOff(player.inventory, stacksToTopOff, itemStack);
+			if (inventoryStack == null) {
+				continue;
+			}
+
+			// Only ask the listeners if the backpack has something to resupply
+			ItemBackpack backpackItem = (ItemBackpack) backpack.getItem();
+			Event event = new BackpackResupplyEvent(player, backpackItem.getDefinition(), backpackInventory);
+			if (MinecraftForge.EVENT_BUS.post(event)) {
+				return false;
+			}
+
+			inventoryStack.grow(1);
+			inventoryStack.setAnimationsToGo(5);
+			itemStack.shrink(1);
+			backpackInventory.setInventorySlotContents(i, itemStack);
+			if (inventoryStack.getCount() >= inventoryStack.getMaxStackSize()) {
+				stacksToTopOff.remove(inventoryStack);
+			}
+			return true;
+		}
+		return false;
+	}
+
 	/**
-	 * This tops off existing stacks in the player's inventory.
-	 * Adds to player inventory if there is an incomplete stack in there.
+	 * @return the stacks of the player inventory that are not full
 	 */
-	private static boolean topOffPlayerInventory(EntityPlayer player, ItemStack itemstack) {
-		if (itemstack.isEmpty()) {
-			return false;
+	private static List<ItemStack> getStacksToTopOff(InventoryPlayer playerInventory) {
+		List<ItemStack> stacksToTopOff = new ArrayList<>();
+		for (ItemStack inventoryStack : playerInventory.mainInventory) {
+			if (!inventoryStack.isEmpty() && inventoryStack.getCount() < inventoryStack.getMaxStackSize()) {
+				stacksToTopOff.add(inventoryStack);
+			}
 		}
-		InventoryPlayer playerInventory = player.inventory;
-		List<ItemStack> inventory = new LinkedList<>();
-		inventory.addAll(playerInventory.mainInventory);
-		inventory.addAll(playerInventory.offHandInventory);
-
-		for (ItemStack inventoryStack : inventory) {
-			if (playerInventory.canMergeStacks(inventoryStack, itemstack)) {
-				inventoryStack.grow(1);
-				inventoryStack.setAnimationsToGo(5);
-				itemstack.shrink(1);
-				return true;
+		for (ItemStack inventoryStack : playerInventory.offHandInventory) {
+			if (!inventoryStack.isEmpty() && inventoryStack.getCount() < inventoryStack.getMaxStackSize()) {
+				stacksToTopOff.add(inventoryStack);
 			}
 		}
+		return stacksToTopOff;
+	}
 
-		return false;
+	@Nullable
+	private static ItemStack getStackToTopOff(InventoryPlayer playerInventory, List<ItemStack> stacksToTopOff, ItemStack itemStack) {
+		if (itemStack.isEmpty()) {
+			return null;
+		}
+		for (ItemStack inventoryStack : stacksToTopOff) {
+			if (playerInventory.canMergeStacks(inventoryStack, itemStack)) {
+				return inventoryStack;
+			}
+		}
+		return null;
 	}
 
+	private void markDue(EntityLivingBase entity) {
+		if (Config.enableBackpackResupply && entity instanceof EntityPlayer && !entity.world.isRemote) {
+			duePlayers.add((EntityPlayer) entity);
+		}
+	}
+
+	private void forget(EntityPlayer player) {
+		duePlayers.remove(player);
+		backpackInventories.remove(player);
+	}
+
+	@SubscribeEvent
+	public void onRightClickBlock(PlayerInteractEvent.RightClickBlock event) {
+		EntityPlayer player = event.getEntityPlayer();
+		if (event.getItemStack().getItem() instanceof ItemBackpack) {
+			// the backpack may be emptied into the clicked inventory
+			backpackInventories.remove(player);
+		}
+		markDue(player);
+	}
+
+	@SubscribeEvent
+	public void onRightClickItem(PlayerInteractEvent.RightClickItem event) {
+		markDue(event.getEntityPlayer());
+	}
+
+	@SubscribeEvent
+	public void onEntityInteract(PlayerInteractEvent.EntityInteract event) {
+		markDue(event.getEntityPlayer());
+	}
+
+	@SubscribeEvent
+	public void onItemUseFinish(LivingEntityUseItemEvent.Finish event) {
+		markDue(event.getEntityLiving());
+	}
+
+	@SubscribeEvent
+	public void onArrowLoose(ArrowLooseEvent event) {
+		markDue(event.getEntityPlayer());
+	}
+
+	@SubscribeEvent
+	public void onItemToss(ItemTossEvent event) {
+		markDue(event.getPlayer());
+	}
+
+	@SubscribeEvent
+	public void onItemPickup(EntityItemPickupEvent event) {
+		markDue(event.getEntityPlayer());
+	}
+
+	@SubscribeEvent
+	public void onItemCrafted(PlayerEvent.ItemCraftedEvent event) {
+		markDue(event.player);
+	}
+
+	@SubscribeEvent
+	public void onContainerClose(PlayerContainerEvent.Close event) {
+		EntityPlayer player = event.getEntityPlayer();
+		// the backpacks may have been opened
+		backpackInventories.remove(player);
+		markDue(player);
+	}
+
+	@SubscribeEvent
+	public void onPlayerLoggedIn(PlayerEvent.PlayerLoggedInEvent event) {
+		markDue(event.player);
+	}
+
+	@SubscribeEvent
+	public void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+		forget(event.player);
+	}
+
+	@SubscribeEvent
+	public void onPlayerClone(Clone event) {
+		forget(event.getOriginal());
+		markDue(event.getEntityPlayer());
+	}
 }
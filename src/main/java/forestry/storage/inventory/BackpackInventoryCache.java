@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.storage.inventory;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import forestry.storage.items.ItemBackpack;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.item.ItemStack;
+
+/**
+ * Keeps the decoded contents of the backpacks that a player stowed items into during the current tick,
+ * so a player that picks up many items at once only decodes and writes every backpack once.
+ * <p>
+ * The contents are written back to the backpacks by {@link #writeChanges(EntityPlayer)} at the end of the tick
+ * of the player, before anything else can open the backpacks.
+ * Must only be used from the server thread.
+ */
+public class BackpackInventoryCache {
+	private static final Map<EntityPlayer, Map<ItemStack, ItemInventoryBackpack>> inventories = new HashMap<>();
+
+	public static ItemInventoryBackpack getInventory(EntityPlayer player, ItemStack backpackStack) {
+		Map<ItemStack, ItemInventoryBackpack> playerInventories = inventories.get(player);
+		if (playerInventories == null) {
+			playerInventories = new IdentityHashMap<>();
+			inventories.put(player, playerInventories);
+		}
+		ItemInventoryBackpack inventory = playerInventories.get(backpackStack);
+		if (inventory == null) {
+			ItemBackpack backpack = (ItemBackpack) backpackStack.getItem();
+			inventory = new ItemInventoryBackpack(player, backpack.getBackpackSize(), backpackStack);
+			inventory.deferWrites();
+			playerInventories.put(backpackStack, inventory);
+		}
+		return inventory;
+	}
+
+	public static void writeChanges(EntityPlayer player) {
+		Map<ItemStack, ItemInventoryBackpack> playerInventories = inventories.remove(player);
+		if (playerInventories != null) {
+			for (ItemInventoryBackpack inventory : playerInventories.values()) {
+				inventory.writeChanges();
+			}
+		}
+	}
+
+	public static void writeAllChanges() {
+		for (Map<ItemStack, ItemInventoryBackpack> playerInventories : inventories.values()) {
+			for (ItemInventoryBackpack inventory : playerInventories.values()) {
+				inventory.writeChanges();
+			}
+		}
+		inventories.clear();
+	}
+}
@@ -121,6 +121,18 @@ public class ItemBackpack extends ItemWithGui implements IColoredItem {
 
 		ItemBackpack backpack = (ItemBackpack) backpackStack.getItem();
 		ItemInventory inventory = new ItemInventoryBackpack(player, backpack.getBackpackSize(), backpackStack);
+		tryStowing(player, backpackStack, inventory, stack);
+	}
+
+	/**
+	 * @param inventory the inventory of the backpack, for callers that keep it between several stowings
+	 */
+	public static void tryStowing(EntityPlayer player, ItemStack backpackStack, ItemInventory inventory, ItemStack stack) {
+		if (getMode(backpackStack) == BackpackMode.LOCKED) {
+			return;
+		}
+
+		ItemBackpack backpack = (ItemBackpack) backpackStack.getItem();
 
 		if (MinecraftForge.EVENT_BUS.post(new BackpackStowEvent(player, backpack.getDefinition(), inventory, stack))) {
 			return;